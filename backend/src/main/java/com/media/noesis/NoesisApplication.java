@@ -1,5 +1,7 @@
 package com.media.noesis;
 
+import java.util.Map;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +9,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class NoesisApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(NoesisApplication.class, args);
+        final var application = new SpringApplication(NoesisApplication.class);
+        // Requisições em threads virtuais: quem espera o hash da senha ou o banco não ocupa uma thread
+        // do sistema. Pode ser desligado na configuração local.
+        application.setDefaultProperties(Map.of("spring.threads.virtual.enabled", "true"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,33 @@
+package com.media.noesis.config;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.media.noesis.enums.Role;
+
+/**
+ * Usuário autenticado montado apenas a partir das claims de um token já
+ * verificado, sem consultar o banco de dados.
+ */
+public record AuthenticatedUser(long id, String email, Role role) implements UserDetails {
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.media.noesis.config;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Regiões do cache de segundo nível do Hibernate. Cada região tem tamanho e
+ * expiração próprios, configuráveis por {@code noesis.cache.regions.<nome>}.
+ */
+public final class CacheRegions {
+
+    public static final String TOPICS = "topics";
+    public static final String CLANS = "clans";
+    public static final String UNITS = "units";
+    public static final String QUESTIONS = "questions";
+    public static final String OPTIONS = "options";
+
+    public static final String CLAN_UNITS = "clan-units";
+    public static final String UNIT_QUESTIONS = "unit-questions";
+    public static final String QUESTION_OPTIONS = "question-options";
+    public static final String QUESTION_TOPICS = "question-topics";
+
+    /**
+     * Resultados das consultas marcadas como cacheáveis (busca de tópico por
+     * nome e de clã por código de convite).
+     */
+    public static final String QUERIES = "catalogue-queries";
+
+    /**
+     * Momento da última escrita em cada tabela, usado pelo Hibernate para
+     * descartar resultados de consultas em cache. Nunca deve expirar.
+     */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    public static final String DEFAULT_QUERIES = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    public static final List<String> ALL = List.of(TOPICS, CLANS, UNITS, QUESTIONS, OPTIONS, CLAN_UNITS,
+            UNIT_QUESTIONS, QUESTION_OPTIONS, QUESTION_TOPICS, QUERIES, UPDATE_TIMESTAMPS, DEFAULT_QUERIES);
+
+    private CacheRegions() {
+    }
+
+}
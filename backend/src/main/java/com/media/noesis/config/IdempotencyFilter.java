@@ -0,0 +1,217 @@
+package com.media.noesis.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.media.noesis.services.IdempotencyService;
+import com.media.noesis.services.IdempotencyService.StoredResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Torna idempotentes as requisições de escrita autenticadas que trazem o
+ * cabeçalho {@code Idempotency-Key}. A primeira resposta de sucesso é guardada
+ * e devolvida às repetições com a mesma chave, do mesmo usuário e para o mesmo
+ * endpoint, sem executar a operação novamente. Uma repetição com outro corpo
+ * é recusada com 422.
+ *
+ * <p>
+ * Requisições sem usuário autenticado (login, cadastro e renovação de token)
+ * não passam pelo filtro: sem um usuário na chave, a resposta guardada, com os
+ * tokens de alguém, seria devolvida a quem repetisse a chave.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String AUTH_PATH = "/v1/auth/";
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Chaves cujas requisições ainda estão sendo processadas.
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) throws ServletException {
+        return !METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null
+                || request.getServletPath().startsWith(AUTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String header = request.getHeader(HEADER);
+        if (header.isBlank() || header.length() > MAX_KEY_LENGTH) {
+            writeProblem(response, HttpStatus.BAD_REQUEST,
+                    "O cabeçalho " + HEADER + " deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+            return;
+        }
+
+        // Guardada como SHA-256: usuário e endpoint não têm tamanho limitado.
+        final var key = hash((authentication.getName() + "|" + request.getMethod() + " " + request.getRequestURI()
+                + "|" + header).getBytes(StandardCharsets.UTF_8));
+        final var body = request.getInputStream().readAllBytes();
+        final var requestHash = hash(body);
+
+        // Repetição de uma requisição já concluída: devolve a resposta original.
+        final var stored = idempotencyService.find(key);
+        if (stored.isPresent()) {
+            if (!stored.get().requestHash().equals(requestHash)) {
+                writeProblem(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Esta " + HEADER + " já foi usada com outro corpo de requisição.");
+                return;
+            }
+            write(response, stored.get());
+            return;
+        }
+
+        // Repetição enquanto a original ainda está em andamento.
+        if (!inFlight.add(key)) {
+            writeProblem(response, HttpStatus.CONFLICT,
+                    "Uma requisição com esta " + HEADER + " ainda está sendo processada.");
+            return;
+        }
+
+        final var wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+
+            // Apenas respostas de sucesso são guardadas; erros podem ser tentados de novo.
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyService.save(key, new StoredResponse(requestHash, wrapper.getStatus(),
+                        wrapper.getContentType(), wrapper.getContentAsByteArray()));
+            }
+        } finally {
+            inFlight.remove(key);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String hash(final byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(final HttpServletResponse response, final StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    /**
+     * Requisição cujo corpo, já lido para o cálculo do hash, é entregue de novo
+     * ao restante da cadeia.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final var charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+    }
+
+    private void writeProblem(final HttpServletResponse response, final HttpStatus status, final String detail)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ProblemDetail.forStatusAndDetail(status, detail));
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.media.noesis.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+public class JpaConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaConfig.class);
+
+    /**
+     * Associações preguiçosas percorridas a partir de várias entidades são
+     * carregadas em lotes, com um {@code IN} por lote, em vez de uma consulta
+     * por entidade. Um valor definido diretamente nas propriedades do
+     * Hibernate tem precedência.
+     */
+    @Bean
+    HibernatePropertiesCustomizer batchFetchCustomizer(
+            @Value("${noesis.jpa.batch-fetch-size:32}") int batchFetchSize) {
+        return properties -> properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchFetchSize);
+    }
+
+    /**
+     * Inserções e atualizações de uma mesma transação são enviadas em lotes
+     * JDBC, agrupadas por tabela. Só funciona porque os IDs vêm de sequências:
+     * com {@code IDENTITY}, o Hibernate precisa executar cada inserção para
+     * conhecer o ID gerado.
+     */
+    @Bean
+    HibernatePropertiesCustomizer jdbcBatchCustomizer(
+            @Value("${noesis.jpa.jdbc-batch-size:50}") int jdbcBatchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, jdbcBatchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * O schema pertence às migrações do Flyway ({@code db/migration}). Bancos
+     * criados antes delas pelo {@code ddl-auto: update} são marcados na versão
+     * 1 sem executá-la; a versão 2 cria neles o que falta para chegar ao mesmo
+     * schema, e as seguintes valem para todos.
+     */
+    @Bean
+    FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    /**
+     * O Hibernate só confere as tabelas contra as entidades: qualquer outro
+     * valor de {@code ddl-auto}, como o {@code update} das configurações
+     * antigas, é trocado por {@code validate}. Assim, um nó com entidades
+     * diferentes do schema migrado não inicia, em vez de alterar o banco.
+     */
+    @Bean
+    HibernatePropertiesCustomizer schemaValidationCustomizer() {
+        return properties -> {
+            final var action = properties.put(AvailableSettings.HBM2DDL_AUTO, "validate");
+            if (action != null && !"validate".equals(action) && !"none".equals(action)) {
+                log.warn("O schema é mantido pelas migrações do Flyway; ignorando ddl-auto={} e usando validate.",
+                        action);
+            }
+        };
+    }
+
+    /**
+     * Gerenciador das regiões do cache de segundo nível, todas criadas aqui com
+     * os limites de {@link SecondLevelCacheProperties}. Cada contexto tem o seu
+     * próprio gerenciador, para que contextos distintos (como nos testes) não
+     * compartilhem entradas.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(final SecondLevelCacheProperties properties) {
+        final var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        final var cacheManager = provider.getCacheManager(
+                URI.create("noesis-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (final var name : CacheRegions.ALL) {
+            final var configuration = new CaffeineConfiguration<Object, Object>().setStatisticsEnabled(true);
+            // O Hibernate já guarda cópias desmontadas das entidades; copiar de novo a cada leitura e gravação
+            // (o padrão do JCache) só acrescenta serialização.
+            configuration.setStoreByValue(false);
+            // As marcas de escrita por tabela não podem sair antes dos resultados de consulta que invalidam.
+            if (!CacheRegions.UPDATE_TIMESTAMPS.equals(name)) {
+                final var region = properties.region(name);
+                configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            cacheManager.createCache(name, configuration);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Entidades do catálogo (tópicos, clãs, unidades, quests e opções) e as
+     * suas coleções ficam no cache de segundo nível, assim como as consultas
+     * marcadas como cacheáveis. As estatísticas do Hibernate (acertos, falhas
+     * e gravações por região) são publicadas no Micrometer.
+     */
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            final SecondLevelCacheProperties properties,
+            final CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            hibernateProperties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY,
+                    MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // Salvar o lado dono de uma associação também invalida a coleção inversa em cache.
+            hibernateProperties.putIfAbsent(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            // As estatísticas vão para as métricas, não para um log a cada sessão.
+            hibernateProperties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    /**
+     * Tamanho e remoções de cada região, complementando as estatísticas do
+     * Hibernate, que não contam as remoções por limite ou expiração.
+     */
+    @Bean
+    MeterBinder hibernateCacheMetrics(final CacheManager hibernateCacheManager) {
+        return registry -> CacheRegions.ALL.forEach(name -> JCacheMetrics.monitor(
+                registry, hibernateCacheManager.getCache(name), Tags.of("cacheManager", "hibernate")));
+    }
+
+}
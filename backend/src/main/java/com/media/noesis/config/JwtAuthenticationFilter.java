@@ -3,6 +3,7 @@ package com.media.noesis.config;
 import java.io.IOException;
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,7 +13,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.media.noesis.enums.Role;
 import com.media.noesis.services.TokenService;
+import com.media.noesis.services.TokenRevocationService;
+import com.media.noesis.services.TokenVersionService;
+
+import io.jsonwebtoken.Claims;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,6 +32,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final UserDetailsService userDetailsService; // Nosso AuthService
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService revocationService;
+
+    /**
+     * Quando ativo, o usuário autenticado é montado a partir das claims do token,
+     * sem consultar o banco; tokens revogados são barrados pela versão.
+     */
+    @Value("${noesis.security.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     /**
      * Define quais requisições devem ser ignoradas por este filtro. Essencial
@@ -34,7 +49,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) throws ServletException {
-        final String[] publicPaths = {"/v1/auth/register", "/v1/auth/login"};
+        final String[] publicPaths = {"/v1/auth/register", "/v1/auth/login", "/v1/auth/refresh", "/v1/auth/logout"};
         String path = request.getServletPath();
         return Arrays.stream(publicPaths).anyMatch(p -> p.equals(path));
     }
@@ -53,13 +68,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // O token é verificado (assinatura e validade) uma única vez por requisição
+        // e descartado se tiver sido revogado.
         final String jwt = authHeader.substring(7);
-        final String username = tokenService.extractUsername(jwt);
+        final var claims = tokenService.verify(jwt)
+                .filter(verified -> !revocationService.isRevoked(verified.getId()));
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (claims.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = statelessPrincipal
+                    ? toPrincipal(claims.get())
+                    : this.userDetailsService.loadUserByUsername(claims.get().getSubject());
 
-            if (tokenService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -70,4 +90,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Monta o usuário autenticado a partir das claims, ou retorna nulo se o token
+     * tiver sido revogado. Tokens sem versão são tratados como da versão inicial.
+     */
+    private AuthenticatedUser toPrincipal(final Claims claims) {
+        final Long userId = claims.get(TokenService.USER_ID_CLAIM, Long.class);
+        final String role = claims.get(TokenService.ROLE_CLAIM, String.class);
+        final Integer version = claims.get(TokenService.VERSION_CLAIM, Integer.class);
+        if (userId == null || role == null
+                || !tokenVersionService.isCurrent(userId, version == null ? 0 : version)) {
+            return null;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), Role.valueOf(role));
+    }
 }
@@ -1,15 +0,0 @@
-package com.media.noesis.config;
-
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class ModelMapperConfig {
-
-    @Bean
-    ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
-}
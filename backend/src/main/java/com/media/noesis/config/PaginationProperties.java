@@ -0,0 +1,31 @@
+package com.media.noesis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Tamanhos de página das listagens paginadas por cursor
+ * ({@code noesis.pagination.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "noesis.pagination")
+public class PaginationProperties {
+
+    private int defaultSize = 20;
+    private int maxSize = 100;
+
+    /**
+     * Tamanho de página a usar para o valor pedido: o padrão quando ausente,
+     * limitado ao intervalo entre 1 e {@link #maxSize}.
+     */
+    public int resolve(final Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.clamp(requested, 1, maxSize);
+    }
+
+}
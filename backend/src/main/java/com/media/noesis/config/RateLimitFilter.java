@@ -0,0 +1,145 @@
+package com.media.noesis.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.media.noesis.config.RateLimitProperties.KeyType;
+import com.media.noesis.config.RateLimitProperties.Rule;
+import com.media.noesis.services.TokenService;
+import com.media.noesis.utils.TokenBucket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Limita a taxa de requisições das rotas configuradas em
+ * {@link RateLimitProperties}, com um {@link TokenBucket} por regra e por
+ * usuário (ou IP). Roda antes da autenticação, para que as requisições
+ * rejeitadas custem quase nada; o usuário é lido das claims do token, que já
+ * ficam em cache no {@link TokenService}.
+ *
+ * <p>
+ * As respostas trazem os cabeçalhos {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} e {@code RateLimit-Reset}; as rejeitadas recebem
+ * 429 com {@code Retry-After}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record CompiledRule(int index, Rule rule, PathPattern pattern) {
+
+    }
+
+    private final RateLimitProperties properties;
+    private final TokenService tokenService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private List<CompiledRule> rules;
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    void init() {
+        final var parser = PathPatternParser.defaultInstance;
+        final var configured = properties.getRules();
+        rules = IntStream.range(0, configured.size())
+                .mapToObj(i -> new CompiledRule(i, configured.get(i), parser.parse(configured.get(i).getPattern())))
+                .toList();
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) throws ServletException {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final var rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final var key = rule.index() + "|" + clientKey(request, rule.rule().getKey());
+        final var bucket = buckets.get(key, k -> new TokenBucket(rule.rule().getCapacity(), rule.rule().getPeriod(), now));
+        final var result = bucket.tryConsume(now);
+
+        response.setHeader("RateLimit-Limit", Long.toString(bucket.capacity()));
+        response.setHeader("RateLimit-Remaining", Long.toString(result.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(toSeconds(result.resetNanos())));
+
+        if (!result.allowed()) {
+            meterRegistry.counter("noesis.rate-limit.rejected", "pattern", rule.rule().getPattern()).increment();
+
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(toSeconds(result.retryAfterNanos())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ProblemDetail.forStatusAndDetail(
+                    HttpStatus.TOO_MANY_REQUESTS, "Muitas requisições. Tente novamente em instantes."));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRule match(final HttpServletRequest request) {
+        final var path = PathContainer.parsePath(request.getRequestURI());
+        for (final var rule : rules) {
+            if (rule.rule().getMethod().equalsIgnoreCase(request.getMethod()) && rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(final HttpServletRequest request, final KeyType type) {
+        if (type == KeyType.USER) {
+            final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (header != null && header.startsWith("Bearer ")) {
+                final var userId = tokenService.verify(header.substring(7))
+                        .map(claims -> claims.get(TokenService.USER_ID_CLAIM, Long.class));
+                if (userId.isPresent()) {
+                    return "user:" + userId.get();
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(final long nanos) {
+        // Arredonda para cima: 0,2 s viram 1 s.
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.media.noesis.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Limites de requisições por rota ({@code noesis.rate-limit.*}). As regras
+ * padrão abaixo valem enquanto {@code noesis.rate-limit.rules} não for
+ * definido; a primeira regra cujo método e padrão casarem com a requisição é
+ * aplicada.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "noesis.rate-limit")
+public class RateLimitProperties {
+
+    public enum KeyType {
+        /**
+         * ID do usuário do token, ou o IP quando a requisição não traz um token
+         * válido.
+         */
+        USER,
+        IP
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Rule {
+
+        private String method;
+        private String pattern;
+        private KeyType key = KeyType.USER;
+        private long capacity;
+        private Duration period = Duration.ofMinutes(1);
+
+        public Rule(final String method, final String pattern, final KeyType key, final long capacity,
+                final Duration period) {
+            this.method = method;
+            this.pattern = pattern;
+            this.key = key;
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+    }
+
+    private boolean enabled = true;
+
+    /**
+     * Máximo de baldes (chave e regra) mantidos em memória.
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * Baldes sem uso por este tempo são descartados (e voltam cheios).
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("POST", "/v1/auth/login", KeyType.IP, 10, Duration.ofMinutes(1)),
+            new Rule("POST", "/v1/auth/register", KeyType.IP, 5, Duration.ofMinutes(1)),
+            new Rule("POST", "/v1/auth/refresh", KeyType.IP, 30, Duration.ofMinutes(1)),
+            new Rule("POST", "/v1/core/options/*/choose", KeyType.USER, 60, Duration.ofMinutes(1)),
+            new Rule("POST", "/v1/core/units/*/submissions", KeyType.USER, 10, Duration.ofMinutes(1)),
+            new Rule("GET", "/v1/core/users/ranking/**", KeyType.USER, 60, Duration.ofMinutes(1)),
+            new Rule("GET", "/v1/core/clans/*/ranking/**", KeyType.USER, 10, Duration.ofMinutes(1))));
+
+}
@@ -0,0 +1,27 @@
+package com.media.noesis.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Threads das tarefas agendadas. O padrão do Spring é uma única thread,
+     * em que uma tarefa longa (como a reconciliação das pontuações) atrasaria
+     * todas as outras, inclusive a sincronização das revogações de tokens a
+     * cada poucos segundos.
+     */
+    @Bean
+    ThreadPoolTaskScheduler taskScheduler(@Value("${noesis.scheduling.pool-size:4}") int poolSize) {
+        final var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.media.noesis.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache de segundo nível do Hibernate ({@code noesis.cache.*}). Cada região
+ * usa os limites de {@code defaults}, exceto os valores definidos em
+ * {@code regions.<nome>} (ver {@link CacheRegions}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "noesis.cache")
+public class SecondLevelCacheProperties {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+
+        /**
+         * Máximo de entradas da região.
+         */
+        private Long maxSize;
+
+        /**
+         * Tempo de vida de cada entrada desde a gravação.
+         */
+        private Duration ttl;
+
+    }
+
+    /**
+     * Liga o cache de segundo nível e o cache de consultas.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Limites usados pelas regiões sem configuração própria.
+     */
+    private Region defaults = new Region(10_000L, Duration.ofHours(1));
+
+    /**
+     * Limites por região; os campos omitidos vêm de {@code defaults}.
+     */
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region region(final String name) {
+        final var region = regions.getOrDefault(name, defaults);
+        return new Region(
+                region.getMaxSize() != null ? region.getMaxSize() : defaults.getMaxSize(),
+                region.getTtl() != null ? region.getTtl() : defaults.getTtl());
+    }
+
+}
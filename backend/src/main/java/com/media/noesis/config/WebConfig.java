@@ -0,0 +1,26 @@
+package com.media.noesis.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${noesis.export.timeout-minutes:60}")
+    private long exportTimeoutMinutes;
+
+    /**
+     * As exportações são escritas fora da thread da requisição e podem levar
+     * minutos; o padrão do servidor (30 segundos) as interromperia. O stream do
+     * ranking define o próprio tempo limite.
+     */
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(Duration.ofMinutes(exportTimeoutMinutes).toMillis());
+    }
+
+}
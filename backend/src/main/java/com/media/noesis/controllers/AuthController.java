@@ -1,6 +1,7 @@
 package com.media.noesis.controllers;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,7 +13,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.media.noesis.dto.AuthDto;
 import com.media.noesis.dto.UserRequest;
 import com.media.noesis.entities.User;
-import com.media.noesis.services.TokenService;
+import com.media.noesis.exceptions.UnauthorizedException;
+import com.media.noesis.services.RefreshTokenService;
 import com.media.noesis.services.UserService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,7 +28,7 @@ import lombok.AllArgsConstructor;
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
     private final UserService userService;
 
     @PostMapping("/login")
@@ -37,20 +39,27 @@ public class AuthController {
         // O Spring Security autentica o usuário
         var authentication = authenticationManager.authenticate(authToken);
 
-        // Se a autenticação for bem-sucedida, gera o token
+        // Se a autenticação for bem-sucedida, gera o access token e o refresh token
         var user = (User) authentication.getPrincipal();
-        String token = tokenService.generateToken(user);
 
-        // Cria o DTO com as informações do usuário para a resposta
-        var userInfo = new AuthDto.UserLoginInfo(
-                user.getId(),
-                user.getName(),
-                user.getEmail(),
-                user.getAvatarId(),
-                user.getRole());
+        // Retorna os tokens e as informações do usuário
+        return ResponseEntity.ok(toLoginResponse(refreshTokenService.issue(user)));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthDto.LoginResponse> refresh(@RequestBody @Valid AuthDto.RefreshRequest data) {
+        // Troca o refresh token por um novo par, sem verificar a senha de novo
+        try {
+            return ResponseEntity.ok(toLoginResponse(refreshTokenService.rotate(data.refreshToken())));
+        } catch (final UnauthorizedException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage())).build();
+        }
+    }
 
-        // Retorna o token e as informações do usuário
-        return ResponseEntity.ok(new AuthDto.LoginResponse(token, userInfo));
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody @Valid AuthDto.RefreshRequest data) {
+        refreshTokenService.revoke(data.refreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/register")
@@ -60,4 +69,17 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    private static AuthDto.LoginResponse toLoginResponse(final RefreshTokenService.IssuedTokens tokens) {
+        // Cria o DTO com as informações do usuário para a resposta
+        var user = tokens.user();
+        var userInfo = new AuthDto.UserLoginInfo(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getAvatarId(),
+                user.getRole());
+
+        return new AuthDto.LoginResponse(tokens.accessToken(), tokens.refreshToken(), userInfo);
+    }
+
 }
@@ -2,10 +2,14 @@ package com.media.noesis.controllers;
 
 import java.util.List;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,16 +17,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.media.noesis.dto.ClanDto;
 import com.media.noesis.dto.ClanRequest;
+import com.media.noesis.dto.CursorPage;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.UnitDto;
 import com.media.noesis.dto.UnitRequest;
+import com.media.noesis.enums.ExportFormat;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.services.AuthService;
 import com.media.noesis.services.ClanService;
+import com.media.noesis.services.ExportService;
+import com.media.noesis.services.RankingStreamService;
 import com.media.noesis.services.UnitService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,11 +53,18 @@ public class ClanController {
 
     private final AuthService authService;
     private final UnitService unitService;
+    private final RankingStreamService rankingStreamService;
+    private final ExportService exportService;
 
     @GetMapping
-    @Operation(summary = "Listar todos", description = "Listar todos os clãs cadastrados.")
-    public ResponseEntity<List<ClanDto>> getAll() {
-        return new ResponseEntity<>(service.findAll(), HttpStatus.OK);
+    @Operation(summary = "Listar todos", description = "Listar os clãs cadastrados, paginados por cursor (after, size).")
+    public ResponseEntity<CursorPage<ClanDto>> getAll(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.findAll(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @PostMapping
@@ -171,4 +189,40 @@ public class ClanController {
         }
     }
 
+    @GetMapping("{id}/answers/export")
+    @Operation(summary = "Exportar respostas", description = "Exportar todas as respostas às quests do clã em NDJSON ou CSV (format=ndjson|csv), escritas à medida que são lidas do banco. Apenas para o mestre do clã.")
+    public ResponseEntity<StreamingResponseBody> exportAnswers(@PathVariable @NotNull final long id,
+            @RequestParam(defaultValue = "ndjson") final String format) {
+        try {
+            final var exportFormat = ExportFormat.from(format);
+            final var body = exportService.exportClanAnswers(id, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("clan-" + id + "-answers." + exportFormat.getExtension())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (final EntityNotFoundException e) {
+            throw new ErrorResponseException(HttpStatus.NOT_FOUND,
+                    ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()), e);
+        } catch (final UnauthorizedException e) {
+            throw new ErrorResponseException(HttpStatus.UNAUTHORIZED,
+                    ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage()), e);
+        } catch (final IllegalArgumentException e) {
+            throw new ErrorResponseException(HttpStatus.BAD_REQUEST,
+                    ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()), e);
+        }
+    }
+
+    @GetMapping(value = "{id}/ranking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar ranking", description = "Envia o topo do ranking do clã (evento snapshot) e, em seguida, apenas as mudanças de posição acumuladas a cada intervalo (evento diff).")
+    public ResponseEntity<SseEmitter> streamRanking(@PathVariable @NotNull final long id,
+            @RequestParam(defaultValue = "10") final int top) {
+        try {
+            return ResponseEntity.ok(rankingStreamService.subscribe(id, top));
+        } catch (final EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.media.noesis.controllers;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.media.noesis.dto.AnswerDto;
 import com.media.noesis.dto.OptionDto;
 import com.media.noesis.dto.OptionRequest;
+import com.media.noesis.exceptions.ConflictException;
+import com.media.noesis.exceptions.ServiceUnavailableException;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.services.OptionService;
 
@@ -71,14 +74,20 @@ public class OptionController {
     }
 
     @PostMapping("{id}/choose")
-    @Transactional
     @Operation(summary = "Escolher Resposta", description = "Regista a escolha de uma alternativa por um utilizador.")
     public ResponseEntity<AnswerDto> chooseOption(@PathVariable @NotNull final long id) {
         try {
             final var answerDto = service.choose(id);
-            return ResponseEntity.ok(answerDto);
-        } catch (final UnauthorizedException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            // Sem ID, a resposta foi aceita para gravação em lote.
+            return answerDto.getId() == 0
+                    ? ResponseEntity.accepted().body(answerDto)
+                    : ResponseEntity.ok(answerDto);
+        } catch (final ConflictException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage())).build();
+        } catch (final ServiceUnavailableException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()))
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
         } catch (final EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
@@ -13,17 +13,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.media.noesis.converters.AnswerConverter;
+import com.media.noesis.dto.AnswerDistributionDto;
 import com.media.noesis.dto.AnswerDto;
 import com.media.noesis.dto.AnswerWithDetailsDto;
+import com.media.noesis.dto.CursorPage;
 import com.media.noesis.dto.OptionRequest;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.QuestionRequest;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.exceptions.UnauthorizedException.RuntimeUnauthorizedException;
-import com.media.noesis.services.AuthService;
+import com.media.noesis.services.AnswerDistributionService;
+import com.media.noesis.services.CurrentUser;
 import com.media.noesis.services.OptionService;
 import com.media.noesis.services.QuestionService;
 
@@ -42,13 +45,18 @@ public class QuestionController {
 
     private final QuestionService service;
     private final OptionService optionService;
-    private final AuthService authService;
-    private final AnswerConverter answerConverter;
+    private final CurrentUser currentUser;
+    private final AnswerDistributionService distributionService;
 
     @GetMapping
-    @Operation(summary = "Listar todas", description = "Listar todas as quests cadastradas.")
-    public ResponseEntity<List<QuestionDto>> getAll() {
-        return new ResponseEntity<>(service.findAll(), HttpStatus.OK);
+    @Operation(summary = "Listar todas", description = "Listar as quests cadastradas, paginadas por cursor (after, size).")
+    public ResponseEntity<CursorPage<QuestionDto>> getAll(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.findAll(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @GetMapping("{id}")
@@ -118,19 +126,33 @@ public class QuestionController {
         }
     }
 
+    @GetMapping("{id}/distribution")
+    @Operation(summary = "Distribuição das respostas", description = "Quantidade de respostas em cada alternativa da quest.")
+    public ResponseEntity<AnswerDistributionDto> getDistribution(@PathVariable @NotNull final long id) {
+        try {
+            return ResponseEntity.ok(distributionService.getDistribution(id));
+        } catch (final EntityNotFoundException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage())).build();
+        }
+    }
+
     @GetMapping("author/{authorId}")
-    @Operation(summary = "Buscar por autor", description = "Buscar questões por ID do autor.")
-    public ResponseEntity<List<QuestionDto>> getByAuthorId(@PathVariable @NotNull final long authorId) {
-        return new ResponseEntity<>(service.findByAuthorId(authorId), HttpStatus.OK);
+    @Operation(summary = "Buscar por autor", description = "Buscar questões por ID do autor, paginadas por cursor (after, size).")
+    public ResponseEntity<CursorPage<QuestionDto>> getByAuthorId(@PathVariable @NotNull final long authorId,
+            @RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.findByAuthorId(authorId, after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @GetMapping("{id}/my-answer")
     @Operation(summary = "Buscar Minha Resposta", description = "Busca a resposta do utilizador logado para esta quest.")
     public ResponseEntity<AnswerDto> getMyAnswer(@PathVariable @NotNull final long id) {
         try {
-            final var user = authService.getLoggedUser();
-            return service.findUserAnswerForQuestion(id, user)
-                    .map(answerConverter::toDto) // Converte a entidade Answer para AnswerDto
+            return service.findUserAnswerForQuestion(id, currentUser.getId())
                     .map(ResponseEntity::ok) // Se encontrar, retorna 200 OK com o DTO
                     .orElse(ResponseEntity.notFound().build()); // Se não, retorna 404 Not Found
         } catch (Exception e) {
@@ -1,5 +1,37 @@
 package com.media.noesis.controllers;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.media.noesis.dto.CursorPage;
+import com.media.noesis.services.TopicService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("v1/core/topics")
+@Tag(name = "Topic")
+@AllArgsConstructor
 public class TopicController {
 
+    private final TopicService service;
+
+    @GetMapping
+    @Operation(summary = "Listar todos", description = "Listar os tópicos em ordem alfabética, paginados por cursor (after, size).")
+    public ResponseEntity<CursorPage<String>> getAll(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.findAll(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
+    }
+
 }
@@ -17,11 +17,15 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.QuestionRequest;
+import com.media.noesis.dto.SubmissionDto;
+import com.media.noesis.dto.SubmissionRequest;
 import com.media.noesis.dto.UnitDto;
 import com.media.noesis.dto.UnitRequest;
+import com.media.noesis.exceptions.ConflictException;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.services.AuthService;
 import com.media.noesis.services.QuestionService;
+import com.media.noesis.services.SubmissionService;
 import com.media.noesis.services.UnitService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +45,7 @@ public class UnitController {
 
     private final AuthService authService;
     private final QuestionService questionService;
+    private final SubmissionService submissionService;
 
     @GetMapping("{id}")
     @Operation(summary = "Buscar", description = "Buscar uma unidade pelo ID.")
@@ -105,4 +110,18 @@ public class UnitController {
         }
     }
 
+    @PostMapping("{id}/submissions")
+    @Operation(summary = "Enviar respostas", description = "Registra de uma só vez as respostas do usuário logado para várias quests da unidade.")
+    public ResponseEntity<SubmissionDto> submit(@PathVariable @NotNull final long id,
+            @RequestBody @Valid final SubmissionRequest request) {
+        try {
+            return ResponseEntity.ok(submissionService.submit(id, request));
+        } catch (final EntityNotFoundException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage())).build();
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        } catch (final ConflictException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage())).build();
+        }
+    }
 }
@@ -1,13 +1,19 @@
 package com.media.noesis.controllers;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,13 +22,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.media.noesis.dto.ClanDto;
+import com.media.noesis.dto.CursorPage;
+import com.media.noesis.dto.RankingPositionDto;
 import com.media.noesis.dto.UserDto;
 import com.media.noesis.dto.UserRequest;
 import com.media.noesis.dto.UserWithScoreDto;
+import com.media.noesis.enums.ExportFormat;
+import com.media.noesis.enums.RankingWindow;
 import com.media.noesis.exceptions.UnauthorizedException;
-import com.media.noesis.services.AuthService;
+import com.media.noesis.services.CurrentUser;
+import com.media.noesis.services.ExportService;
 import com.media.noesis.services.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,12 +51,40 @@ import lombok.AllArgsConstructor;
 public class UserController {
 
     private final UserService service;
-    private final AuthService authService;
+    private final CurrentUser currentUser;
+    private final ExportService exportService;
 
     @GetMapping
-    @Operation(summary = "Listar todos", description = "Listar todos os usuários ativos cadastrados.")
-    public ResponseEntity<List<UserDto>> getAll() {
-        return new ResponseEntity<>(service.findAll(), HttpStatus.OK);
+    @Operation(summary = "Listar todos", description = "Listar os usuários ativos cadastrados, paginados por cursor (after, size).")
+    public ResponseEntity<CursorPage<UserDto>> getAll(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.findAll(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
+    }
+
+    @GetMapping("export")
+    @Operation(summary = "Exportar", description = "Exportar todos os usuários em NDJSON ou CSV (format=ndjson|csv), escritos à medida que são lidos do banco. Apenas para mestres.")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") final String format) {
+        try {
+            final var exportFormat = ExportFormat.from(format);
+            final var body = exportService.exportUsers(exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("users." + exportFormat.getExtension())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (final UnauthorizedException e) {
+            throw new ErrorResponseException(HttpStatus.UNAUTHORIZED,
+                    ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage()), e);
+        } catch (final IllegalArgumentException e) {
+            throw new ErrorResponseException(HttpStatus.BAD_REQUEST,
+                    ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()), e);
+        }
     }
 
     @GetMapping("{id}")
@@ -98,32 +138,68 @@ public class UserController {
     }
 
     @GetMapping("students")
-    @Operation(summary = "Listar alunos", description = "Listar todos os alunos.")
-    public ResponseEntity<List<UserDto>> listStudents() {
-        return new ResponseEntity<>(service.listStudents(), HttpStatus.OK);
+    @Operation(summary = "Listar alunos", description = "Listar os alunos, paginados por cursor (after, size).")
+    public ResponseEntity<CursorPage<UserDto>> listStudents(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.listStudents(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @GetMapping("teachers")
-    @Operation(summary = "Listar professores", description = "Listar todos os professores.")
-    public ResponseEntity<List<UserDto>> listTeachers() {
-        return new ResponseEntity<>(service.listTeachers(), HttpStatus.OK);
+    @Operation(summary = "Listar professores", description = "Listar os professores, paginados por cursor (after, size).")
+    public ResponseEntity<CursorPage<UserDto>> listTeachers(@RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer size) {
+        try {
+            return new ResponseEntity<>(service.listTeachers(after, size), HttpStatus.OK);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @GetMapping("ranking")
-    @Operation(summary = "Ranking", description = "Exibe o ranking de pontuação. Pode ser filtrado por clã.")
+    @Operation(summary = "Ranking", description = "Exibe o ranking de pontuação. Pode ser filtrado por clã e por período (window=day|week|month|custom; custom exige from e to).")
     public ResponseEntity<Page<UserWithScoreDto>> getRanking(
             Pageable pageable,
-            @RequestParam(required = false) Long clanId) {
+            @RequestParam(required = false) Long clanId,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return new ResponseEntity<>(service.getRanking(pageable, clanId, toWindow(window), from, to),
+                    HttpStatus.OK);
+        } catch (final EntityNotFoundException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage())).build();
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
+    }
 
-        return new ResponseEntity<>(service.getRanking(pageable, clanId), HttpStatus.OK);
+    @GetMapping("ranking/me")
+    @Operation(summary = "Minha posição no ranking", description = "Exibe a posição do usuário logado no ranking e os usuários imediatamente acima e abaixo dele. Pode ser filtrado por clã e por período.")
+    public ResponseEntity<RankingPositionDto> getMyRankingPosition(
+            @RequestParam(required = false) Long clanId,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "5") int radius) {
+        try {
+            return ResponseEntity.ok(service.getRankingPosition(currentUser.getId(), clanId, toWindow(window), from, to,
+                    radius));
+        } catch (final EntityNotFoundException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage())).build();
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
     }
 
     @GetMapping("managed-clans")
     @Operation(summary = "Listar meus clãs gerenciados", description = "Listar clãs gerenciados pelo usuário logado.")
     public ResponseEntity<List<ClanDto>> getManagedClans() {
         try {
-            final var owner = authService.getLoggedUser();
-            final var clans = service.getManagedClans(owner);
+            final var clans = service.getManagedClans(currentUser.getId());
 
             return ResponseEntity.ok(clans);
         } catch (final EntityNotFoundException e) {
@@ -135,8 +211,7 @@ public class UserController {
     @Operation(summary = "Listar meus clãs", description = "Listar clãs do usuário logado.")
     public ResponseEntity<List<ClanDto>> getJoinedClans() {
         try {
-            final var owner = authService.getLoggedUser();
-            final var clans = service.getJoinedClans(owner);
+            final var clans = service.getJoinedClans(currentUser.getId());
 
             return ResponseEntity.ok(clans);
         } catch (final EntityNotFoundException e) {
@@ -147,8 +222,7 @@ public class UserController {
     @GetMapping("score")
     @Operation(summary = "Obter minha pontuação", description = "Obter pontuação de usuário.")
     public ResponseEntity<Long> getMyScore() {
-        final var user = authService.getLoggedUser();
-        return getScore(user.getId());
+        return getScore(currentUser.getId());
     }
 
     @GetMapping("{id}/score")
@@ -171,4 +245,8 @@ public class UserController {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage())).build();
         }
     }
+
+    private static RankingWindow toWindow(final String window) {
+        return window == null || window.isBlank() ? null : RankingWindow.from(window);
+    }
 }
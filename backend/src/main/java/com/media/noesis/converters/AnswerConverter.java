@@ -1,22 +1,33 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.media.noesis.dto.AnswerDto;
+import com.media.noesis.dto.AnswerWithDetailsDto;
 import com.media.noesis.entities.Answer;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.AnswerRepository.AnswerDetails;
+import com.media.noesis.repositories.AnswerRepository.AnswerSummary;
 
-@Component
-public class AnswerConverter extends Converter<Answer, AnswerDto> {
+@Mapper(config = ConverterConfig.class)
+public interface AnswerConverter {
 
-    public AnswerConverter(final ModelMapper mapper) {
-        super(mapper, Answer.class, AnswerDto.class);
-    }
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "optionId", source = "option.id")
+    @Mapping(target = "correct", source = "option.correct")
+    AnswerDto toDto(Answer source);
 
-    public AnswerDto toDto(final Answer source) {
-        return super.toDto(source)
-                .setCorrect(source.getOption().isCorrect());
-    }
+    AnswerDto toDto(AnswerSummary source);
+
+    @Mapping(target = "user.id", source = "userId")
+    @Mapping(target = "user.name", source = "userName")
+    @Mapping(target = "user.email", source = "userEmail")
+    @Mapping(target = "user.avatarId", source = "userAvatarId")
+    @Mapping(target = "user.role", source = "userRole")
+    @Mapping(target = "option.id", source = "optionId")
+    @Mapping(target = "option.correct", source = "optionCorrect")
+    @Mapping(target = "option.assertion", source = "optionAssertion")
+    @Mapping(target = "option.feedback", source = "optionFeedback")
+    AnswerWithDetailsDto toDto(AnswerDetails source);
 
 }
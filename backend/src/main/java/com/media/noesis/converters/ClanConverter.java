@@ -1,17 +1,34 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.media.noesis.dto.ClanDto;
+import com.media.noesis.dto.ClanRequest;
 import com.media.noesis.entities.Clan;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.ClanRepository.ClanSummary;
 
-@Component
-public class ClanConverter extends Converter<Clan, ClanDto> {
+@Mapper(config = ConverterConfig.class, uses = UserConverter.class)
+public interface ClanConverter {
 
-    public ClanConverter(final ModelMapper mapper) {
-        super(mapper, Clan.class, ClanDto.class);
-    }
+    ClanDto toDto(Clan source);
+
+    @Mapping(target = "owner.id", source = "ownerId")
+    @Mapping(target = "owner.name", source = "ownerName")
+    @Mapping(target = "owner.email", source = "ownerEmail")
+    @Mapping(target = "owner.avatarId", source = "ownerAvatarId")
+    @Mapping(target = "owner.role", source = "ownerRole")
+    ClanDto toDto(ClanSummary source);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "integrants", ignore = true)
+    @Mapping(target = "units", ignore = true)
+    Clan toEntity(ClanRequest source);
+
+    @InheritConfiguration
+    Clan toEntity(ClanRequest source, @MappingTarget Clan destiny);
 
 }
@@ -0,0 +1,19 @@
+package com.media.noesis.converters;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuração comum dos conversores gerados pelo MapStruct.
+ *
+ * <p>
+ * Toda propriedade de destino precisa ser mapeada ou ignorada explicitamente:
+ * uma associação nova na entidade ou no DTO quebra a compilação em vez de ser
+ * copiada (e carregada do banco) sem ninguém perceber.
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING, injectionStrategy = InjectionStrategy.CONSTRUCTOR, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ConverterConfig {
+
+}
@@ -1,17 +1,29 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.media.noesis.dto.OptionDto;
+import com.media.noesis.dto.OptionRequest;
 import com.media.noesis.entities.Option;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.OptionRepository.OptionSummary;
 
-@Component
-public class OptionConverter extends Converter<Option, OptionDto> {
+@Mapper(config = ConverterConfig.class)
+public interface OptionConverter {
 
-    public OptionConverter(final ModelMapper mapper) {
-        super(mapper, Option.class, OptionDto.class);
-    }
+    OptionDto toDto(Option source);
+
+    OptionDto toDto(OptionSummary source);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "question", ignore = true)
+    @Mapping(target = "answerCount", ignore = true)
+    @Mapping(target = "answers", ignore = true)
+    Option toEntity(OptionRequest source);
+
+    @InheritConfiguration
+    Option toEntity(OptionRequest source, @MappingTarget Option destiny);
 
 }
@@ -1,21 +1,38 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import java.util.List;
 
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.media.noesis.dto.OptionDto;
 import com.media.noesis.dto.QuestionDto;
+import com.media.noesis.dto.QuestionRequest;
 import com.media.noesis.entities.Question;
-import com.media.noesis.entities.Topic;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.QuestionRepository.QuestionSummary;
+
+@Mapper(config = ConverterConfig.class, uses = { OptionConverter.class, TopicConverter.class })
+public interface QuestionConverter {
+
+    @Mapping(target = "clanId", source = "unit.clan.id")
+    QuestionDto toDto(Question source);
 
-@Component
-public class QuestionConverter extends Converter<Question, QuestionDto> {
+    QuestionDto toDto(QuestionSummary source, List<OptionDto> options, List<String> topics);
 
-    public QuestionConverter(final ModelMapper mapper, final TopicConverter topicConverter) {
-        super(mapper, Question.class, QuestionDto.class);
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "author", ignore = true)
+    @Mapping(target = "unit", ignore = true)
+    Question toEntity(QuestionRequest.Create source);
 
-        mapper.addConverter(context -> context.getSource().getName(), Topic.class, String.class);
-        mapper.addConverter(context -> topicConverter.toEntity(context.getSource()), String.class, Topic.class);
-    }
+    /**
+     * Atualiza apenas os campos editáveis: as alternativas têm endpoints
+     * próprios.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "author", ignore = true)
+    @Mapping(target = "unit", ignore = true)
+    @Mapping(target = "options", ignore = true)
+    Question toEntity(QuestionRequest source, @MappingTarget Question destiny);
 
 }
@@ -1,22 +1,23 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 import com.media.noesis.entities.Topic;
 import com.media.noesis.repositories.TopicRepository;
-import com.media.noesis.utils.Converter;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converte tópicos de e para os seus nomes. Não é gerado pelo MapStruct porque
+ * a conversão de um nome reaproveita o tópico já cadastrado; os conversores
+ * gerados o usam para as listas de tópicos das quests.
+ */
 @Component
-public class TopicConverter extends Converter<Topic, String> {
+@RequiredArgsConstructor
+public class TopicConverter {
 
     private final TopicRepository repository;
 
-    public TopicConverter(final ModelMapper mapper, final TopicRepository repository) {
-        super(mapper, Topic.class, String.class);
-        this.repository = repository;
-    }
-
     public Topic toEntity(final String source) {
         return repository.findByName(source)
                 .orElseGet(() -> {
@@ -24,16 +25,8 @@ public class TopicConverter extends Converter<Topic, String> {
                 });
     }
 
-    public Topic toEntity(final String source, final Topic destiny) {
-        return destiny.setName(source);
-    }
-
     public String toDto(final Topic source) {
         return source.getName();
     }
 
-    public String toDto(final Topic source, final String ignoredDestiny) {
-        return source.getName();
-    }
-
 }
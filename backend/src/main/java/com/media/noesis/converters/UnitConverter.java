@@ -1,17 +1,35 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.media.noesis.dto.UnitDto;
+import com.media.noesis.dto.UnitRequest;
 import com.media.noesis.entities.Unit;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.UnitRepository.UnitSummary;
 
-@Component
-public class UnitConverter extends Converter<Unit, UnitDto> {
+@Mapper(config = ConverterConfig.class)
+public interface UnitConverter {
 
-    public UnitConverter(final ModelMapper mapper) {
-        super(mapper, Unit.class, UnitDto.class);
-    }
+    /**
+     * O total de quests não é calculado aqui: contar {@code questions}
+     * carregaria a coleção inteira de cada unidade convertida. As leituras usam
+     * {@link #toDto(UnitSummary)}, que já traz o total contado no banco.
+     */
+    @Mapping(target = "clanId", source = "clan.id")
+    @Mapping(target = "totalQuestions", ignore = true)
+    UnitDto toDto(Unit source);
+
+    UnitDto toDto(UnitSummary source);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "clan", ignore = true)
+    @Mapping(target = "questions", ignore = true)
+    Unit toEntity(UnitRequest source);
+
+    @InheritConfiguration
+    Unit toEntity(UnitRequest source, @MappingTarget Unit destiny);
 
 }
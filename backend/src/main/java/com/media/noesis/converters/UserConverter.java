@@ -1,17 +1,16 @@
 package com.media.noesis.converters;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
 
 import com.media.noesis.dto.UserDto;
 import com.media.noesis.entities.User;
-import com.media.noesis.utils.Converter;
+import com.media.noesis.repositories.UserRepository.UserSummary;
 
-@Component
-public class UserConverter extends Converter<User, UserDto> {
+@Mapper(config = ConverterConfig.class)
+public interface UserConverter {
 
-    public UserConverter(final ModelMapper mapper) {
-        super(mapper, User.class, UserDto.class);
-    }
+    UserDto toDto(User source);
+
+    UserDto toDto(UserSummary source);
 
 }
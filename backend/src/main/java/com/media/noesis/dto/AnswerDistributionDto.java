@@ -0,0 +1,25 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class AnswerDistributionDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OptionCount {
+        private long optionId;
+        private long count;
+    }
+
+    private long questionId;
+    private long total;
+    private List<OptionCount> options;
+
+}
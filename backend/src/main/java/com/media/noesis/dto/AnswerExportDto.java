@@ -0,0 +1,24 @@
+package com.media.noesis.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerExportDto {
+
+    private long id;
+    private LocalDateTime timestamp;
+    private long userId;
+    private String userName;
+    private String userEmail;
+    private long questionId;
+    private String questionStatement;
+    private long optionId;
+    private boolean correct;
+
+}
@@ -25,8 +25,14 @@ public class AuthDto {
 
     public record LoginResponse(
             String token,
+            String refreshToken,
             UserLoginInfo user) {
 
     }
 
+    public record RefreshRequest(
+            @NotBlank String refreshToken) {
+
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.media.noesis.utils.Cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de uma listagem paginada por cursor. {@code next} é o cursor a enviar
+ * em {@code after} para buscar a página seguinte, ou {@code null} na última.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String next;
+
+    /**
+     * Monta a página a partir de até {@code size + 1} linhas: a linha extra
+     * apenas indica que existe uma próxima página.
+     */
+    public static <R, T> CursorPage<T> of(final List<R> rows, final int size, final Function<R, Cursor> cursor,
+            final Function<List<R>, List<T>> mapper) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(mapper.apply(rows), null);
+        }
+
+        final var page = rows.subList(0, size);
+        return new CursorPage<>(mapper.apply(page), cursor.apply(page.getLast()).encode());
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Alterações no topo de um ranking desde o último envio: usuários que
+ * entraram ou mudaram de posição/pontuação e IDs dos que saíram.
+ */
+@Data
+@NoArgsConstructor
+public class RankingDiffDto {
+
+    private List<RankingEntryDto> changed;
+    private List<Long> removed;
+
+}
@@ -0,0 +1,18 @@
+package com.media.noesis.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class RankingEntryDto extends UserWithScoreDto {
+
+    private long rank;
+
+    public RankingEntryDto(final UserDto userDto) {
+        super(userDto);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class RankingPositionDto {
+
+    private long rank;
+    private long score;
+    private List<UserWithScoreDto> above;
+    private List<UserWithScoreDto> below;
+
+}
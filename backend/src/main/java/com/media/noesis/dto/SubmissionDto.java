@@ -0,0 +1,15 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class SubmissionDto {
+
+    private List<AnswerDto> answers;
+    private long score;
+
+}
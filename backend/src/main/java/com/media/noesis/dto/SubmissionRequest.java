@@ -0,0 +1,31 @@
+package com.media.noesis.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class SubmissionRequest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @NotNull
+        private Long questionId;
+
+        @NotNull
+        private Long optionId;
+    }
+
+    @Valid
+    @NotEmpty(message = "Envie ao menos uma resposta.")
+    private List<Item> answers;
+
+}
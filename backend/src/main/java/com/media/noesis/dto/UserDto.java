@@ -2,11 +2,13 @@ package com.media.noesis.dto;
 
 import com.media.noesis.enums.Role;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 public class UserDto {
 
     private long id;
@@ -4,23 +4,27 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "answers")
+@Table(name = "answers", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "question_id" }))
 public class Answer {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_id_seq")
+    @SequenceGenerator(name = "answers_id_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne(optional = false)
@@ -29,6 +33,13 @@ public class Answer {
     @ManyToOne(optional = false)
     private Option option;
 
+    /**
+     * Quest da alternativa escolhida, repetida aqui para que o banco garanta
+     * uma única resposta por usuário e quest.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Question question;
+
     @Column
     private LocalDateTime timestamp;
 
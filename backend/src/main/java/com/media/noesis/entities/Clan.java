@@ -2,6 +2,11 @@ package com.media.noesis.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.media.noesis.config.CacheRegions;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +18,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
@@ -21,12 +27,14 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLANS)
 @Table(name = "clans")
 public class Clan {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clans_id_seq")
+    @SequenceGenerator(name = "clans_id_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne(optional = false)
@@ -43,6 +51,7 @@ public class Clan {
             "clan", "integrant" }))
     private List<User> integrants;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLAN_UNITS)
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "clan")
     private List<Unit> units;
 
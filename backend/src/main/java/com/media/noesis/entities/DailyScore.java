@@ -0,0 +1,52 @@
+package com.media.noesis.entities;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pontos feitos por um usuário em um clã em um único dia. Os rankings por
+ * janela de tempo somam estas linhas em vez de percorrer as respostas.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "daily_scores",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "clan_id", "day" }))
+public class DailyScore {
+
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_scores_id_seq")
+    @SequenceGenerator(name = "daily_scores_id_seq", allocationSize = 50)
+    private long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Clan clan;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private long points;
+
+}
@@ -0,0 +1,49 @@
+package com.media.noesis.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resposta guardada para uma {@code Idempotency-Key}, compartilhada entre as
+ * instâncias da aplicação.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotent_responses", indexes = @Index(columnList = "createdAt"))
+public class IdempotentResponse {
+
+    /**
+     * SHA-256, em hexadecimal, do usuário, do endpoint e da
+     * {@code Idempotency-Key}.
+     */
+    @Id
+    @Column(length = 64)
+    private String idempotencyKey;
+
+    /**
+     * SHA-256, em hexadecimal, do corpo da requisição que gerou a resposta.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column
+    private String contentType;
+
+    @Column
+    private byte[] body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -2,6 +2,11 @@ package com.media.noesis.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.media.noesis.config.CacheRegions;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
@@ -18,12 +24,14 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "options", uniqueConstraints = @UniqueConstraint(columnNames = { "question", "assertion" }))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OPTIONS)
+@Table(name = "options", uniqueConstraints = @UniqueConstraint(columnNames = { "question_id", "assertion" }))
 public class Option {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "options_id_seq")
+    @SequenceGenerator(name = "options_id_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne(optional = false)
@@ -38,6 +46,15 @@ public class Option {
     @Column
     private String feedback;
 
+    /**
+     * Total de respostas nesta alternativa, gravado periodicamente por SQL a
+     * partir dos contadores em memória. Fora das inserções e atualizações da
+     * entidade, para que uma alternativa em cache, com um total antigo, não
+     * sobrescreva o gravado.
+     */
+    @Column(nullable = false, columnDefinition = "bigint default 0", insertable = false, updatable = false)
+    private long answerCount;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "option")
     private List<Answer> answers;
 
@@ -0,0 +1,72 @@
+package com.media.noesis.entities;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Refresh token emitido em um login ou em uma renovação. Apenas o hash do
+ * token é gravado. Os tokens obtidos a partir de um mesmo login formam uma
+ * família, revogada por inteiro se um token já utilizado for reapresentado.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(columnList = "familyId"),
+        @Index(columnList = "expiresAt") })
+public class RefreshToken {
+
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_id_seq")
+    @SequenceGenerator(name = "refresh_tokens_id_seq", allocationSize = 50)
+    private long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * ID ({@code jti}) do access token emitido junto com este refresh token.
+     */
+    @Column(nullable = false, length = 36)
+    private String accessTokenId;
+
+    /**
+     * Versão dos tokens do usuário na emissão; uma troca de senha invalida o
+     * refresh token.
+     */
+    @Column(nullable = false)
+    private int tokenVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private LocalDateTime usedAt;
+
+}
@@ -0,0 +1,36 @@
+package com.media.noesis.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access token revogado antes de expirar, identificado pelo seu {@code jti}.
+ * A tabela é compartilhada entre as instâncias da aplicação; as linhas podem
+ * ser removidas assim que o token expira.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(columnList = "revokedAt"),
+        @Index(columnList = "expiresAt") })
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,46 @@
+package com.media.noesis.entities;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pontuação acumulada de um usuário. Quando {@code clan} é nulo, a linha
+ * representa a pontuação global; caso contrário, a pontuação naquele clã.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "scores", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "clan_id" }))
+public class Score {
+
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scores_id_seq")
+    @SequenceGenerator(name = "scores_id_seq", allocationSize = 50)
+    private long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Clan clan;
+
+    @Column(nullable = false)
+    private long points;
+
+}
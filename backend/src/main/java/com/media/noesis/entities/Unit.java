@@ -2,6 +2,11 @@ package com.media.noesis.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.media.noesis.config.CacheRegions;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
@@ -18,12 +24,14 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.UNITS)
 @Table(name = "units", uniqueConstraints = @UniqueConstraint(columnNames = { "clan_id", "name" }))
 public class Unit {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "units_id_seq")
+    @SequenceGenerator(name = "units_id_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne(optional = false)
@@ -32,6 +40,7 @@ public class Unit {
     @Column
     private String name;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.UNIT_QUESTIONS)
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "unit")
     private List<Question> questions;
 
@@ -17,10 +17,12 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
@@ -29,12 +31,13 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(columnList = "role, id"))
 public class User implements UserDetails {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", allocationSize = 50)
     private long id;
 
     @Column
@@ -53,6 +56,13 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    /**
+     * Versão dos tokens emitidos para o usuário. É incrementada sempre que os
+     * tokens já emitidos devem deixar de valer (troca de senha, por exemplo).
+     */
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion;
+
     @ManyToMany
     @JoinTable(name = "clans_integrations", joinColumns = @JoinColumn(name = "integrant"), inverseJoinColumns = @JoinColumn(name = "clan"), uniqueConstraints = @UniqueConstraint(columnNames = {
             "clan", "integrant" }))
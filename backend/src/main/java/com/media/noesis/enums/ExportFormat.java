@@ -0,0 +1,29 @@
+package com.media.noesis.enums;
+
+import java.util.Locale;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Formatos das exportações: um objeto JSON por linha ou CSV com cabeçalho.
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    public static ExportFormat from(final String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de exportação inválido: " + value + ".");
+        }
+    }
+
+}
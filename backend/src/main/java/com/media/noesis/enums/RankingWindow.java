@@ -0,0 +1,43 @@
+package com.media.noesis.enums;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Janelas de tempo do ranking. As janelas fixas são móveis e terminam sempre
+ * no dia atual; {@link #CUSTOM} usa um intervalo informado na requisição.
+ */
+@Getter
+@AllArgsConstructor
+public enum RankingWindow {
+
+    DAY(1),
+    WEEK(7),
+    MONTH(30),
+    CUSTOM(0);
+
+    private final int days;
+
+    /**
+     * Primeiro dia incluído na janela, terminando em {@code today}.
+     */
+    public LocalDate since(final LocalDate today) {
+        return today.minusDays(days - 1L);
+    }
+
+    public boolean isRolling() {
+        return this != CUSTOM;
+    }
+
+    public static RankingWindow from(final String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Janela de ranking inválida: " + value + ".");
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.media.noesis.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicado quando uma resposta é registrada. Ouvintes transacionais o
+ * recebem apenas após o commit.
+ */
+public record AnswerRecordedEvent(
+        long userId,
+        long clanId,
+        long questionId,
+        long optionId,
+        boolean correct,
+        LocalDateTime timestamp) {
+
+}
@@ -0,0 +1,5 @@
+package com.media.noesis.events;
+
+public record CredentialsChangedEvent(long userId) {
+
+}
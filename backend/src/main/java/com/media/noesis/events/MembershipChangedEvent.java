@@ -0,0 +1,12 @@
+package com.media.noesis.events;
+
+/**
+ * Publicado quando um usuário entra ou sai de um ranking. Um {@code clanId}
+ * nulo refere-se ao ranking global de alunos.
+ */
+public record MembershipChangedEvent(
+        Long clanId,
+        long userId,
+        boolean joined) {
+
+}
@@ -0,0 +1,5 @@
+package com.media.noesis.events;
+
+public record UserDeletedEvent(long userId) {
+
+}
@@ -0,0 +1,12 @@
+package com.media.noesis.exceptions;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class ConflictException extends Exception {
+
+    public ConflictException(final String message) {
+        super(message);
+    }
+
+}
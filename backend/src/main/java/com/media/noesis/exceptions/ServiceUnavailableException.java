@@ -0,0 +1,12 @@
+package com.media.noesis.exceptions;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class ServiceUnavailableException extends Exception {
+
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.media.noesis.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.media.noesis.services.LeaderboardService;
+import com.media.noesis.services.ScoreService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Na virada do dia, descarta os pontos diários fora do período de retenção e
+ * recarrega os rankings por janela de tempo, para que os dias que saíram de
+ * cada janela deixem de contar.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingWindowJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingWindowJob.class);
+
+    private final ScoreService scoreService;
+    private final LeaderboardService leaderboardService;
+
+    @Scheduled(cron = "${noesis.rankings.rollover-cron:0 0 0 * * *}")
+    public void run() {
+        final int purged = scoreService.purgeExpiredDailyScores();
+        if (purged > 0) {
+            log.info("Pontos diários expirados removidos: {} linhas.", purged);
+        }
+        leaderboardService.rollover();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.media.noesis.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.media.noesis.services.LeaderboardService;
+import com.media.noesis.services.ScoreService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reconstrói periodicamente a tabela de pontuações a partir da tabela de
+ * respostas e reporta qualquer divergência encontrada.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreReconciliationJob.class);
+
+    private final ScoreService scoreService;
+    private final LeaderboardService leaderboardService;
+
+    @Value("${noesis.scores.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * Executa antes do carregamento dos rankings em memória, para que eles já
+     * partam de pontuações corrigidas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${noesis.scores.reconciliation-cron:0 0 4 * * *}")
+    public void run() {
+        if (reconcile().drifted() > 0) {
+            leaderboardService.reload();
+        }
+    }
+
+    private ScoreService.ReconciliationReport reconcile() {
+        final long start = System.currentTimeMillis();
+        final var report = scoreService.reconcile();
+        final long elapsed = System.currentTimeMillis() - start;
+
+        if (report.drifted() > 0) {
+            log.warn("Reconciliação de pontuações: {} de {} linhas divergiam e foram corrigidas ({} ms).",
+                    report.drifted(), report.checked(), elapsed);
+        } else {
+            log.info("Reconciliação de pontuações: {} linhas verificadas, nenhuma divergência ({} ms).",
+                    report.checked(), elapsed);
+        }
+        return report;
+    }
+
+}
@@ -1,11 +1,165 @@
 package com.media.noesis.repositories;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.media.noesis.dto.AnswerExportDto;
 import com.media.noesis.entities.Answer;
+import com.media.noesis.enums.Role;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
+    /**
+     * Linhas buscadas por ida ao banco nas exportações. O driver do PostgreSQL
+     * só respeita o valor dentro de uma transação; sem ela, carrega o
+     * resultado inteiro.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    interface CorrectAnswersCount {
+        long getUserId();
+
+        long getClanId();
+
+        long getPoints();
+    }
+
+    interface DailyCorrectAnswersCount extends CorrectAnswersCount {
+        LocalDate getDay();
+    }
+
+    interface AnswerSummary {
+        long getId();
+
+        long getUserId();
+
+        long getOptionId();
+
+        boolean getCorrect();
+
+        LocalDateTime getTimestamp();
+    }
+
+    /**
+     * Colunas do {@code AnswerWithDetailsDto}: a resposta com o usuário e a
+     * alternativa escolhida.
+     */
+    interface AnswerDetails {
+        long getId();
+
+        LocalDateTime getTimestamp();
+
+        long getUserId();
+
+        String getUserName();
+
+        String getUserEmail();
+
+        int getUserAvatarId();
+
+        Role getUserRole();
+
+        long getOptionId();
+
+        boolean getOptionCorrect();
+
+        String getOptionAssertion();
+
+        String getOptionFeedback();
+    }
+
+    @Query("""
+            select a.user.id as userId, q.unit.clan.id as clanId, count(a) as points
+            from Answer a join a.option o join o.question q
+            where o.correct = true
+            group by a.user.id, q.unit.clan.id""")
+    List<CorrectAnswersCount> countCorrectAnswersByUserAndClan();
+
+    @Query("""
+            select a.user.id as userId, q.unit.clan.id as clanId, cast(a.timestamp as LocalDate) as day,
+                count(a) as points
+            from Answer a join a.option o join o.question q
+            where o.correct = true and a.timestamp >= :since
+            group by a.user.id, q.unit.clan.id, cast(a.timestamp as LocalDate)""")
+    List<DailyCorrectAnswersCount> countCorrectAnswersByUserClanAndDay(@Param("since") LocalDateTime since);
+
+    @Query("""
+            select a.user.id as userId, q.unit.clan.id as clanId, count(a) as points
+            from Answer a join a.option o join o.question q
+            where a.user.id = :userId and o.correct = true
+            group by a.user.id, q.unit.clan.id""")
+    List<CorrectAnswersCount> countCorrectAnswersByClan(@Param("userId") long userId);
+
+    @Query("""
+            select a.user.id as userId, q.unit.clan.id as clanId, cast(a.timestamp as LocalDate) as day,
+                count(a) as points
+            from Answer a join a.option o join o.question q
+            where a.user.id = :userId and o.correct = true and a.timestamp >= :since
+            group by a.user.id, q.unit.clan.id, cast(a.timestamp as LocalDate)""")
+    List<DailyCorrectAnswersCount> countCorrectAnswersByClanAndDay(@Param("userId") long userId,
+            @Param("since") LocalDateTime since);
+
+    boolean existsByUserIdAndQuestionId(long userId, long questionId);
+
+    @Query("""
+            select a.id as id, a.user.id as userId, o.id as optionId, o.correct as correct, a.timestamp as timestamp
+            from Answer a join a.option o
+            where o.question.id = :questionId
+            order by a.id""")
+    List<AnswerSummary> findSummariesByQuestionId(@Param("questionId") long questionId);
+
+    @Query("""
+            select a.id as id, a.user.id as userId, o.id as optionId, o.correct as correct, a.timestamp as timestamp
+            from Answer a join a.option o
+            where o.question.id = :questionId and a.user.id = :userId
+            order by a.id
+            limit 1""")
+    Optional<AnswerSummary> findSummaryByQuestionIdAndUserId(@Param("questionId") long questionId,
+            @Param("userId") long userId);
+
+    @Query("""
+            select a.id as id, a.timestamp as timestamp, u.id as userId, u.name as userName, u.email as userEmail,
+                u.avatarId as userAvatarId, u.role as userRole, o.id as optionId, o.correct as optionCorrect,
+                o.assertion as optionAssertion, o.feedback as optionFeedback
+            from Answer a join a.user u join a.option o
+            where o.question.id = :questionId
+            order by a.id""")
+    List<AnswerDetails> findDetailsByQuestionId(@Param("questionId") long questionId);
+
+    /**
+     * Todas as respostas às quests de um clã, lidas sob demanda e em uma única
+     * direção. Deve ser consumido dentro de uma transação e fechado ao final.
+     * Cada linha é construída diretamente como DTO, sem o proxy de uma
+     * projeção por interface, que custa mais que a própria leitura quando as
+     * linhas são milhões.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("""
+            select new com.media.noesis.dto.AnswerExportDto(a.id, a.timestamp, u.id, u.name, u.email, q.id,
+                q.statement, o.id, o.correct)
+            from Answer a join a.user u join a.option o join o.question q
+            where q.unit.clan.id = :clanId
+            order by a.id""")
+    Stream<AnswerExportDto> streamExportByClanId(@Param("clanId") long clanId);
+
+    @Query("select a.question.id from Answer a where a.user.id = :userId and a.question.id in :questionIds")
+    List<Long> findAnsweredQuestionIds(@Param("userId") long userId,
+            @Param("questionIds") Collection<Long> questionIds);
+
 }
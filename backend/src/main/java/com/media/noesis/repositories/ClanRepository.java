@@ -1,15 +1,93 @@
 package com.media.noesis.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.media.noesis.config.CacheRegions;
 import com.media.noesis.entities.Clan;
+import com.media.noesis.enums.Role;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ClanRepository extends JpaRepository<Clan, Long> {
 
+    interface Membership {
+        long getClanId();
+
+        long getUserId();
+    }
+
+    /**
+     * Colunas do {@code ClanDto}, com os dados do dono na mesma linha.
+     */
+    interface ClanSummary {
+        long getId();
+
+        String getJoinCode();
+
+        String getName();
+
+        long getOwnerId();
+
+        String getOwnerName();
+
+        String getOwnerEmail();
+
+        int getOwnerAvatarId();
+
+        Role getOwnerRole();
+    }
+
+    /**
+     * Resultado guardado no cache de consultas; é descartado a cada escrita na
+     * tabela.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES) })
     Optional<Clan> findByJoinCode(String joinCode);
 
+    @Query("select c.id as clanId, i.id as userId from Clan c join c.integrants i")
+    List<Membership> findAllMemberships();
+
+    @Query("""
+            select c.id as id, c.joinCode as joinCode, c.name as name, o.id as ownerId, o.name as ownerName,
+                o.email as ownerEmail, o.avatarId as ownerAvatarId, o.role as ownerRole
+            from Clan c join c.owner o
+            where c.id > :afterId
+            order by c.id""")
+    List<ClanSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select c.id as id, c.joinCode as joinCode, c.name as name, o.id as ownerId, o.name as ownerName,
+                o.email as ownerEmail, o.avatarId as ownerAvatarId, o.role as ownerRole
+            from Clan c join c.owner o
+            where c.id = :id""")
+    Optional<ClanSummary> findSummaryById(@Param("id") long id);
+
+    @Query("""
+            select c.id as id, c.joinCode as joinCode, c.name as name, o.id as ownerId, o.name as ownerName,
+                o.email as ownerEmail, o.avatarId as ownerAvatarId, o.role as ownerRole
+            from Clan c join c.owner o
+            where o.id = :ownerId
+            order by c.id""")
+    List<ClanSummary> findSummariesByOwnerId(@Param("ownerId") long ownerId);
+
+    @Query("""
+            select c.id as id, c.joinCode as joinCode, c.name as name, o.id as ownerId, o.name as ownerName,
+                o.email as ownerEmail, o.avatarId as ownerAvatarId, o.role as ownerRole
+            from Clan c join c.owner o join c.integrants i
+            where i.id = :integrantId
+            order by c.id""")
+    List<ClanSummary> findSummariesByIntegrantId(@Param("integrantId") long integrantId);
+
 }
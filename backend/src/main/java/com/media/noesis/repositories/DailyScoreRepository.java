@@ -0,0 +1,62 @@
+package com.media.noesis.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.media.noesis.entities.DailyScore;
+import com.media.noesis.repositories.ScoreRepository.ClanUserPoints;
+import com.media.noesis.repositories.ScoreRepository.UserPoints;
+
+@Repository
+public interface DailyScoreRepository extends JpaRepository<DailyScore, Long> {
+
+    interface DailyClanUserPoints extends ClanUserPoints {
+        LocalDate getDay();
+    }
+
+    @Query("""
+            select d.user.id as userId, sum(d.points) as points from DailyScore d
+            where d.day between :from and :to
+            group by d.user.id""")
+    List<UserPoints> sumGlobalPoints(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select d.user.id as userId, sum(d.points) as points from DailyScore d
+            where d.clan.id = :clanId and d.day between :from and :to
+            group by d.user.id""")
+    List<UserPoints> sumClanPoints(@Param("clanId") long clanId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+            select d.clan.id as clanId, d.user.id as userId, sum(d.points) as points from DailyScore d
+            where d.day between :from and :to
+            group by d.clan.id, d.user.id""")
+    List<ClanUserPoints> sumClanPoints(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select coalesce(sum(d.points), 0) from DailyScore d
+            where d.user.id = :userId and d.day between :from and :to""")
+    long sumUserPoints(@Param("userId") long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select coalesce(sum(d.points), 0) from DailyScore d
+            where d.user.id = :userId and d.clan.id = :clanId and d.day between :from and :to""")
+    long sumUserPoints(@Param("userId") long userId, @Param("clanId") long clanId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+            select d.user.id as userId, d.clan.id as clanId, d.day as day, d.points as points from DailyScore d
+            where d.day >= :day""")
+    List<DailyClanUserPoints> findAllPointsSince(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("delete from DailyScore d where d.day < :day")
+    int deleteByDayBefore(@Param("day") LocalDate day);
+
+}
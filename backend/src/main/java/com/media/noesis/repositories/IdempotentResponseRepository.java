@@ -0,0 +1,23 @@
+package com.media.noesis.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.media.noesis.entities.IdempotentResponse;
+
+@Repository
+public interface IdempotentResponseRepository extends JpaRepository<IdempotentResponse, String> {
+
+    Optional<IdempotentResponse> findByIdempotencyKeyAndCreatedAtAfter(String idempotencyKey, LocalDateTime createdAt);
+
+    @Modifying
+    @Query("delete from IdempotentResponse r where r.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+
+}
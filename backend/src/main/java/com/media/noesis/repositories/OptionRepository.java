@@ -1,6 +1,12 @@
 package com.media.noesis.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.media.noesis.entities.Option;
@@ -8,4 +14,60 @@ import com.media.noesis.entities.Option;
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
 
+    interface UnitOption {
+        long getId();
+
+        long getQuestionId();
+
+        boolean getCorrect();
+    }
+
+    interface OptionSummary {
+        long getId();
+
+        long getQuestionId();
+
+        boolean getCorrect();
+
+        String getAssertion();
+
+        String getFeedback();
+    }
+
+    interface OptionAnswerCount {
+        long getId();
+
+        long getAnswerCount();
+    }
+
+    @Query("""
+            select o.id as id, o.question.id as questionId, o.correct as correct
+            from Option o where o.id in :ids and o.question.unit.id = :unitId""")
+    List<UnitOption> findAllByIdInUnit(@Param("ids") Collection<Long> ids, @Param("unitId") long unitId);
+
+    @Query("""
+            select o.id as id, o.question.id as questionId, o.correct as correct, o.assertion as assertion,
+                o.feedback as feedback
+            from Option o
+            order by o.id""")
+    List<OptionSummary> findAllSummaries();
+
+    @Query("""
+            select o.id as id, o.question.id as questionId, o.correct as correct, o.assertion as assertion,
+                o.feedback as feedback
+            from Option o
+            where o.id = :id""")
+    Optional<OptionSummary> findSummaryById(@Param("id") long id);
+
+    @Query("""
+            select o.id as id, o.question.id as questionId, o.correct as correct, o.assertion as assertion,
+                o.feedback as feedback
+            from Option o
+            where o.question.id in :questionIds
+            order by o.id""")
+    List<OptionSummary> findSummariesByQuestionIdIn(@Param("questionIds") Collection<Long> questionIds);
+
+    @Query("select o.id as id, o.answerCount as answerCount from Option o where o.question.id = :questionId order by o.id")
+    List<OptionAnswerCount> findAnswerCountsByQuestionId(@Param("questionId") long questionId);
+
 }
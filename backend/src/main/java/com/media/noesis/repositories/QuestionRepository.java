@@ -1,9 +1,13 @@
 package com.media.noesis.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.media.noesis.entities.Question;
@@ -12,10 +16,86 @@ import com.media.noesis.enums.Level;
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
+    /**
+     * Colunas do {@code QuestionDto}, sem as alternativas e os tópicos, que
+     * são buscados em lote para todas as quests de uma listagem.
+     */
+    interface QuestionSummary {
+        long getId();
+
+        long getClanId();
+
+        Level getLevel();
+
+        String getStatement();
+    }
+
+    interface QuestionTopic {
+        long getQuestionId();
+
+        String getName();
+    }
+
     List<Question> findByLevel(Level level);
 
     Optional<Question> findByStatement(String statement);
 
     List<Question> findByAuthorId(long authorId);
 
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u
+            where q.id > :afterId
+            order by q.id""")
+    List<QuestionSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u
+            where q.id = :id""")
+    Optional<QuestionSummary> findSummaryById(@Param("id") long id);
+
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u
+            where q.author.id = :authorId and q.id > :afterId
+            order by q.id""")
+    List<QuestionSummary> findSummariesByAuthorIdAfter(@Param("authorId") long authorId,
+            @Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u
+            where u.id = :unitId
+            order by q.id""")
+    List<QuestionSummary> findSummariesByUnitId(@Param("unitId") long unitId);
+
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u
+            where u.clan.id = :clanId
+            order by q.id""")
+    List<QuestionSummary> findSummariesByClanId(@Param("clanId") long clanId);
+
+    @Query("""
+            select q.id as id, u.clan.id as clanId, q.level as level, q.statement as statement
+            from Question q join q.unit u join q.topics t
+            where t.id = :topicId
+            order by q.id""")
+    List<QuestionSummary> findSummariesByTopicId(@Param("topicId") long topicId);
+
+    @Query("""
+            select q.id as questionId, t.name as name
+            from Question q join q.topics t
+            where q.id in :questionIds
+            order by q.id, t.id""")
+    List<QuestionTopic> findTopicsByQuestionIdIn(@Param("questionIds") Collection<Long> questionIds);
+
+    @Query("""
+            select t.name
+            from Question q join q.topics t
+            where q.unit.clan.id = :clanId
+            order by q.id, t.id""")
+    List<String> findTopicNamesByClanId(@Param("clanId") long clanId);
+
 }
@@ -0,0 +1,34 @@
+package com.media.noesis.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.media.noesis.entities.RefreshToken;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Bloqueia a linha para que duas renovações simultâneas com o mesmo token
+     * não emitam dois pares de tokens.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    List<RefreshToken> findByFamilyId(String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :expiresAt")
+    int deleteByExpiresAtBefore(@Param("expiresAt") LocalDateTime expiresAt);
+
+}
@@ -0,0 +1,27 @@
+package com.media.noesis.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.media.noesis.entities.RevokedToken;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("select r.tokenId from RevokedToken r where r.revokedAt >= :since")
+    List<String> findTokenIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt >= :now")
+    List<String> findUnexpiredTokenIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :expiresAt")
+    int deleteByExpiresAtBefore(@Param("expiresAt") LocalDateTime expiresAt);
+
+}
@@ -0,0 +1,41 @@
+package com.media.noesis.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.media.noesis.entities.Score;
+
+@Repository
+public interface ScoreRepository extends JpaRepository<Score, Long> {
+
+    interface UserPoints {
+        long getUserId();
+
+        long getPoints();
+    }
+
+    interface ClanUserPoints extends UserPoints {
+        long getClanId();
+    }
+
+    @Query("select s.points from Score s where s.user.id = :userId and s.clan is null")
+    Optional<Long> findGlobalPoints(@Param("userId") long userId);
+
+    @Query("select s.points from Score s where s.user.id = :userId and s.clan.id = :clanId")
+    Optional<Long> findClanPoints(@Param("userId") long userId, @Param("clanId") long clanId);
+
+    @Query("select s.user.id as userId, s.points as points from Score s where s.clan is null")
+    List<UserPoints> findAllGlobalPoints();
+
+    @Query("select s.user.id as userId, s.points as points from Score s where s.clan.id = :clanId")
+    List<UserPoints> findAllClanPoints(@Param("clanId") long clanId);
+
+    @Query("select s.clan.id as clanId, s.user.id as userId, s.points as points from Score s where s.clan is not null")
+    List<ClanUserPoints> findAllClanPoints();
+
+}
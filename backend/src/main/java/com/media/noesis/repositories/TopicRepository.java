@@ -1,15 +1,51 @@
 package com.media.noesis.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.media.noesis.config.CacheRegions;
 import com.media.noesis.entities.Topic;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
 
+    interface TopicSummary {
+        long getId();
+
+        String getName();
+    }
+
+    /**
+     * Resultado guardado no cache de consultas; é descartado a cada escrita na
+     * tabela.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES) })
     Optional<Topic> findByName(String name);
 
+    /**
+     * Página de uma listagem por cursor, em ordem alfabética: os tópicos
+     * depois do par {@code (afterName, afterId)}. A comparação de pares começa
+     * a leitura do índice {@code (name, id)} no cursor; com um {@code or}, o
+     * índice seria lido desde o início.
+     */
+    @Query("""
+            select t.id as id, t.name as name
+            from Topic t
+            where (t.name, t.id) > (:afterName, :afterId)
+            order by t.name, t.id""")
+    List<TopicSummary> findSummariesAfter(@Param("afterName") String afterName, @Param("afterId") long afterId,
+            Limit limit);
+
 }
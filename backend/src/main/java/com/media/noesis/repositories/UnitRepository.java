@@ -1,8 +1,11 @@
 package com.media.noesis.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.media.noesis.entities.Unit;
@@ -10,5 +13,40 @@ import com.media.noesis.entities.Unit;
 @Repository
 public interface UnitRepository extends JpaRepository<Unit, Long> {
 
+    interface UnitSummary {
+        long getId();
+
+        long getClanId();
+
+        String getName();
+
+        long getTotalQuestions();
+    }
+
     Optional<Unit> findByNameAndClanId(String name, Long clanId);
+
+    @Query("select u.clan.id from Unit u where u.id = :id")
+    Optional<Long> findClanIdById(@Param("id") long id);
+
+    @Query("""
+            select u.id as id, u.clan.id as clanId, u.name as name, count(q) as totalQuestions
+            from Unit u left join u.questions q
+            group by u.id, u.clan.id, u.name
+            order by u.id""")
+    List<UnitSummary> findAllSummaries();
+
+    @Query("""
+            select u.id as id, u.clan.id as clanId, u.name as name, count(q) as totalQuestions
+            from Unit u left join u.questions q
+            where u.id = :id
+            group by u.id, u.clan.id, u.name""")
+    Optional<UnitSummary> findSummaryById(@Param("id") long id);
+
+    @Query("""
+            select u.id as id, u.clan.id as clanId, u.name as name, count(q) as totalQuestions
+            from Unit u left join u.questions q
+            where u.clan.id = :clanId
+            group by u.id, u.clan.id, u.name
+            order by u.name""")
+    List<UnitSummary> findSummariesByClanId(@Param("clanId") long clanId);
 }
@@ -1,22 +1,76 @@
 package com.media.noesis.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.media.noesis.dto.UserDto;
 import com.media.noesis.entities.User;
 import com.media.noesis.enums.Role;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    interface UserSummary {
+        long getId();
+
+        String getName();
+
+        String getEmail();
+
+        int getAvatarId();
+
+        Role getRole();
+    }
+
     Optional<User> findByEmail(String email);
 
     List<User> findByRole(Role role);
 
     Page<User> findByRole(Role role, Pageable pageable);
+
+    /**
+     * Página de uma listagem por cursor: os usuários com ID maior que
+     * {@code afterId}, em ordem de ID (chave primária).
+     */
+    List<UserSummary> findSummariesByIdGreaterThanOrderById(long afterId, Limit limit);
+
+    /**
+     * Como {@link #findSummariesByIdGreaterThanOrderById}, apenas para um
+     * perfil. Usa o índice {@code (role, id)}.
+     */
+    List<UserSummary> findSummariesByRoleAndIdGreaterThanOrderById(Role role, long afterId, Limit limit);
+
+    /**
+     * Todos os usuários, em ordem de ID, lidos sob demanda para exportação.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AnswerRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select new com.media.noesis.dto.UserDto(u.id, u.name, u.email, u.avatarId, u.role) from User u order by u.id")
+    Stream<UserDto> streamExport();
+
+    Optional<UserSummary> findSummaryById(long id);
+
+    List<UserSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("select u.id from User u where u.role = :role")
+    List<Long> findIdsByRole(@Param("role") Role role);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") long id);
 }
@@ -0,0 +1,230 @@
+package com.media.noesis.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.media.noesis.dto.AnswerDistributionDto;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.repositories.OptionRepository;
+import com.media.noesis.repositories.QuestionRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Conta as respostas de cada alternativa em memória, para exibir a
+ * distribuição de respostas de uma quest sem consultar a tabela de respostas.
+ *
+ * <p>
+ * Cada resposta registrada incrementa o contador pendente da alternativa, um
+ * {@link LongAdder}, para que respostas simultâneas à mesma alternativa não
+ * disputem uma única variável. O pendente é gravado periodicamente em
+ * {@code options.answer_count} e então removido.
+ * O total de uma alternativa é o valor gravado, lido quando a quest é
+ * carregada e atualizado a cada gravação desta instância, mais o pendente.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnswerDistributionService {
+
+    private record OptionKey(long questionId, long optionId) {
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerDistributionService.class);
+
+    /**
+     * Os totais são gravados por SQL, e não por atualizações em massa do JPQL:
+     * estas esvaziariam a cada gravação as regiões do cache de segundo nível
+     * das alternativas e das alternativas de cada quest. O total não é lido
+     * das entidades em cache, só pela projeção
+     * {@link OptionRepository#findAnswerCountsByQuestionId(long)}.
+     */
+    private static final String INCREMENT_SQL = "update options set answer_count = answer_count + ? where id = ?";
+
+    /**
+     * Recalcula o total das alternativas sem respostas desde o instante
+     * informado. As demais podem ter incrementos ainda não gravados por alguma
+     * instância, que seriam contados duas vezes.
+     */
+    private static final String RECOUNT_SQL = """
+            update options o set answer_count = (select count(*) from answers a where a.option_id = o.id)
+            where o.answer_count <> (select count(*) from answers a where a.option_id = o.id)
+                and not exists (select 1 from answers a where a.option_id = o.id and a.timestamp >= ?)""";
+
+    private final OptionRepository optionRepository;
+    private final QuestionRepository questionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Tempo sem respostas a partir do qual nenhuma instância tem incrementos
+     * pendentes de uma alternativa. Deve ser bem maior que o intervalo de
+     * gravação.
+     */
+    @Value("${noesis.distribution.reconciliation-quiet-minutes:10}")
+    private long quietMinutes;
+
+    /**
+     * Respostas contadas por esta instância e ainda não gravadas no banco.
+     */
+    private final Map<OptionKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Totais gravados das alternativas de cada quest. Expira para que novas
+     * alternativas e as gravações das outras instâncias apareçam.
+     */
+    private final Cache<Long, Map<Long, Long>> baselines = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnswerRecorded(final AnswerRecordedEvent event) {
+        add(new OptionKey(event.questionId(), event.optionId()), 1);
+    }
+
+    public AnswerDistributionDto getDistribution(final long questionId) {
+        final var baseline = baselines.get(questionId, this::load);
+
+        final List<AnswerDistributionDto.OptionCount> options;
+        synchronized (baseline) {
+            options = baseline.entrySet().stream()
+                    .map(entry -> new AnswerDistributionDto.OptionCount(entry.getKey(), entry.getValue()
+                            + pending(new OptionKey(questionId, entry.getKey()))))
+                    .toList();
+        }
+
+        return new AnswerDistributionDto()
+                .setQuestionId(questionId)
+                .setOptions(options)
+                .setTotal(options.stream().mapToLong(AnswerDistributionDto.OptionCount::getCount).sum());
+    }
+
+    /**
+     * Grava no banco os incrementos pendentes e os move para o total gravado
+     * das quests carregadas.
+     */
+    @Scheduled(fixedDelayString = "${noesis.distribution.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        final Map<OptionKey, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((key, counter) -> {
+            final long delta = counter.sum();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> deltas
+                .forEach((key, delta) -> jdbcTemplate.update(INCREMENT_SQL, delta, key.optionId())));
+        deltas.forEach((key, delta) -> {
+            final var baseline = baselines.getIfPresent(key.questionId());
+            if (baseline == null) {
+                subtract(key, delta);
+                return;
+            }
+            synchronized (baseline) {
+                baseline.computeIfPresent(key.optionId(), (id, count) -> count + delta);
+                subtract(key, delta);
+            }
+        });
+    }
+
+    /**
+     * Recalcula os totais gravados a partir das respostas, corrigindo o que
+     * tenha se perdido em um desligamento abrupto. Só alternativas sem
+     * respostas recentes são recalculadas: nelas, nenhuma instância tem
+     * incrementos pendentes.
+     */
+    @Scheduled(cron = "${noesis.distribution.reconciliation-cron:0 30 4 * * *}")
+    public void reconcile() {
+        final long start = System.currentTimeMillis();
+        final int recounted = jdbcTemplate.update(RECOUNT_SQL, LocalDateTime.now().minusMinutes(quietMinutes));
+        baselines.invalidateAll();
+        log.info("Contagem de respostas por alternativa recalculada: {} corrigidas ({} ms).", recounted,
+                System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        flush();
+    }
+
+    /**
+     * Lê os totais gravados das alternativas de uma quest. Sincronizado com
+     * {@link #flush()} para que cada incremento seja contado exatamente uma
+     * vez: ou no valor gravado, ou em {@link #pending}.
+     */
+    private synchronized Map<Long, Long> load(final long questionId) {
+        final var rows = optionRepository.findAnswerCountsByQuestionId(questionId);
+        if (rows.isEmpty() && !questionRepository.existsById(questionId)) {
+            throw new EntityNotFoundException("Quest não localizada!");
+        }
+
+        final Map<Long, Long> baseline = new LinkedHashMap<>();
+        rows.forEach(row -> baseline.put(row.getId(), row.getAnswerCount()));
+        return baseline;
+    }
+
+    private long pending(final OptionKey key) {
+        final var counter = pending.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private void add(final OptionKey key, final long count) {
+        final var counter = pending.computeIfAbsent(key, k -> new LongAdder());
+        counter.add(count);
+        if (pending.get(key) != counter) {
+            // A gravação removeu o contador, já zerado, antes desta soma.
+            reclaim(key, counter);
+        }
+    }
+
+    /**
+     * Desconta um incremento já gravado, removendo o contador quando zera.
+     * Só {@link #flush()} remove contadores, então o lido aqui é o mesmo de
+     * quando {@code delta} foi somado.
+     */
+    private void subtract(final OptionKey key, final long delta) {
+        final var counter = pending.get(key);
+        counter.add(-delta);
+        if (counter.sum() == 0 && pending.remove(key, counter)) {
+            // Incrementos feitos entre a soma e a remoção.
+            reclaim(key, counter);
+        }
+    }
+
+    /**
+     * Leva para o contador atual o que foi somado a um contador já removido.
+     * Tanto a gravação quanto quem somou depois da remoção chamam este
+     * método; {@link LongAdder#sumThenReset()} zera cada parcela
+     * atomicamente, então cada incremento é levado uma única vez.
+     */
+    private void reclaim(final OptionKey key, final LongAdder removed) {
+        final long orphaned = removed.sumThenReset();
+        if (orphaned != 0) {
+            add(key, orphaned);
+        }
+    }
+
+}
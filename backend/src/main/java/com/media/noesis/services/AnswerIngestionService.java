@@ -0,0 +1,275 @@
+package com.media.noesis.services;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.exceptions.ConflictException;
+import com.media.noesis.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gravação assíncrona de respostas, para picos de acesso como o início de uma
+ * prova. Quando habilitada, as respostas já validadas entram em uma fila
+ * limitada e uma única thread as grava em lotes: um insert JDBC em lote e uma
+ * atualização de pontuação por usuário e clã.
+ *
+ * <p>
+ * Um lote é gravado ao atingir {@code batch-size} respostas ou quando a mais
+ * antiga espera há {@code max-latency-ms}. Com a fila cheia, novas respostas
+ * são recusadas. Um lote que falha é dividido até isolar as respostas que não
+ * podem ser gravadas, e só elas são descartadas. No desligamento, a fila é
+ * esvaziada antes de o banco de dados ser fechado.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnswerIngestionService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerIngestionService.class);
+
+    /**
+     * O ID vem da mesma sequência usada pelo Hibernate; cada valor obtido aqui
+     * fica fora dos blocos reservados por ele.
+     */
+    private static final String INSERT_SQL = """
+            insert into answers (id, user_id, option_id, question_id, timestamp)
+            values (nextval('answers_id_seq'), ?, ?, ?, ?)
+            on conflict (user_id, question_id) do nothing""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScoreService scoreService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${noesis.answers.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${noesis.answers.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${noesis.answers.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${noesis.answers.write-behind.max-latency-ms:50}")
+    private long maxLatency;
+
+    /**
+     * Pares (usuário, quest) ainda na fila, para recusar uma segunda resposta
+     * antes de a primeira chegar ao banco.
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private BlockingQueue<AnswerRecordedEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter flushedCounter;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+    private Counter splitCounter;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enfileira uma resposta já validada.
+     *
+     * @throws ConflictException           se o usuário já tem uma resposta para
+     *                                     a quest aguardando gravação
+     * @throws ServiceUnavailableException se a fila estiver cheia
+     */
+    public void submit(final AnswerRecordedEvent answer) throws ConflictException, ServiceUnavailableException {
+        if (!running) {
+            throw new ServiceUnavailableException("O registro de respostas está indisponível no momento.");
+        }
+
+        final var key = key(answer);
+        if (!pending.add(key)) {
+            throw new ConflictException("Você já havia respondido a esta quest!");
+        }
+        if (!queue.offer(answer)) {
+            pending.remove(key);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Muitas respostas sendo registradas. Tente novamente em instantes.");
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("noesis.answers.queue.depth", queue, BlockingQueue::size)
+                .description("Respostas aguardando gravação")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("noesis.answers.flush")
+                .description("Tempo de gravação de cada lote de respostas")
+                .register(meterRegistry);
+        flushedCounter = meterRegistry.counter("noesis.answers.flushed");
+        rejectedCounter = meterRegistry.counter("noesis.answers.rejected");
+        failedCounter = meterRegistry.counter("noesis.answers.failed");
+        splitCounter = meterRegistry.counter("noesis.answers.flush.splits");
+
+        running = true;
+        writer = Thread.ofPlatform().name("answer-writer").start(this::run);
+        log.info("Gravação assíncrona de respostas habilitada (fila: {}, lote: {}, latência: {} ms).",
+                capacity, batchSize, maxLatency);
+    }
+
+    /**
+     * Para de aceitar respostas e aguarda a gravação de todas as que estão na
+     * fila.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Gravação assíncrona de respostas encerrada.");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Encerra depois do servidor web (fase {@code DEFAULT_PHASE - 2048}), para
+     * que nenhuma resposta chegue com a fila já esvaziada. Na mesma fase, a
+     * ordem entre os dois não seria garantida.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        final List<AnswerRecordedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                final var first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // Aguarda o lote encher ou a resposta mais antiga atingir a latência máxima.
+                batch.add(first);
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLatency);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    final long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            flush(batch);
+        }
+
+        // Esvazia a fila antes de encerrar.
+        while (!batch.isEmpty() || !queue.isEmpty()) {
+            queue.drainTo(batch, batchSize - batch.size());
+            flush(batch);
+        }
+    }
+
+    private void flush(final List<AnswerRecordedEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> write(batch));
+        } finally {
+            batch.forEach(answer -> pending.remove(key(answer)));
+            batch.clear();
+        }
+    }
+
+    /**
+     * Grava um lote em uma transação. Se ela falhar, cada metade é gravada em
+     * separado, até isolar as respostas que não podem ser gravadas: só essas
+     * são descartadas.
+     */
+    private void write(final List<AnswerRecordedEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            flushedCounter.increment(batch.size());
+        } catch (final RuntimeException e) {
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.error("Resposta descartada por falha na gravação: {}.", batch.get(0), e);
+                return;
+            }
+
+            splitCounter.increment();
+            log.warn("Falha ao gravar lote de {} respostas; gravando em duas partes: {}", batch.size(),
+                    e.getMessage());
+            final int middle = batch.size() / 2;
+            write(batch.subList(0, middle));
+            write(batch.subList(middle, batch.size()));
+        }
+    }
+
+    private void insert(final List<AnswerRecordedEvent> batch) {
+        final int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, answer) -> {
+            ps.setLong(1, answer.userId());
+            ps.setLong(2, answer.optionId());
+            ps.setLong(3, answer.questionId());
+            ps.setTimestamp(4, Timestamp.valueOf(answer.timestamp()));
+        })[0];
+
+        // Respostas ignoradas pela restrição única não pontuam.
+        final List<AnswerRecordedEvent> inserted = new ArrayList<>(batch.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(batch.get(i));
+            }
+        }
+        scoreService.record(inserted);
+    }
+
+    private static String key(final AnswerRecordedEvent answer) {
+        return answer.userId() + ":" + answer.questionId();
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.media.noesis.services;
 
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.media.noesis.entities.User;
 import com.media.noesis.repositories.UserRepository;
@@ -13,9 +14,10 @@ import lombok.AllArgsConstructor;
 
 @Service
 @AllArgsConstructor
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final CurrentUser currentUser;
 
     @Override
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
@@ -23,11 +25,25 @@ public class AuthService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
     }
 
-    public User getLoggedUser() {
-        final var username = SecurityContextHolder.getContext().getAuthentication().getName();
+    /**
+     * Chamado pelo Spring Security após um login bem-sucedido quando o hash
+     * gravado usa um custo menor que o configurado. Hashes de custo maior são
+     * mantidos: reduzir o custo só vale para as senhas gravadas depois.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        return userRepository.findByEmail(user.getUsername())
+                .map(entity -> entity.setPassword(newPassword))
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + user.getUsername()));
+    }
 
-        return userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
+    /**
+     * Entidade completa do usuário logado. Prefira {@link CurrentUser} quando
+     * bastarem o ID ou o papel.
+     */
+    public User getLoggedUser() {
+        return currentUser.get();
     }
 
 }
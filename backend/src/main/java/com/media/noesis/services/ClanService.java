@@ -2,20 +2,27 @@ package com.media.noesis.services;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.media.noesis.config.PaginationProperties;
 import com.media.noesis.converters.ClanConverter;
-import com.media.noesis.converters.QuestionConverter;
-import com.media.noesis.converters.TopicConverter;
 import com.media.noesis.converters.UnitConverter;
 import com.media.noesis.dto.ClanDto;
 import com.media.noesis.dto.ClanRequest;
+import com.media.noesis.dto.CursorPage;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.UnitDto;
 import com.media.noesis.entities.User;
 import com.media.noesis.enums.Role;
+import com.media.noesis.events.ClanDeletedEvent;
+import com.media.noesis.events.MembershipChangedEvent;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.QuestionRepository;
+import com.media.noesis.repositories.UnitRepository;
+import com.media.noesis.utils.Cursor;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -28,13 +35,18 @@ public class ClanService {
     private final ClanConverter converter;
 
     private final UnitConverter unitConverter;
-    private final TopicConverter topicConverter;
-    private final QuestionConverter questionConverter;
-
-    public List<ClanDto> findAll() {
-        return repository.findAll().stream()
+    private final UnitRepository unitRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionService questionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PaginationProperties pagination;
+
+    public CursorPage<ClanDto> findAll(final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var rows = repository.findSummariesAfter(Cursor.decode(after).id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> Cursor.of(row.getId()), page -> page.stream()
                 .map(converter::toDto)
-                .toList();
+                .toList());
     }
 
     public void create(final ClanRequest request, final User owner) throws UnauthorizedException {
@@ -49,7 +61,7 @@ public class ClanService {
     }
 
     public ClanDto findById(final long id) {
-        return repository.findById(id)
+        return repository.findSummaryById(id)
                 .map(converter::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Clã não localizado!"));
     }
@@ -66,6 +78,7 @@ public class ClanService {
 
     public void delete(final long id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new ClanDeletedEvent(id));
     }
 
     public void join(final String joinCode, final User user) {
@@ -74,6 +87,7 @@ public class ClanService {
                         entity -> {
                             entity.getIntegrants().add(user);
                             repository.save(entity);
+                            eventPublisher.publishEvent(new MembershipChangedEvent(entity.getId(), user.getId(), true));
                         },
                         () -> new EntityNotFoundException("Clã não localizado!"));
     }
@@ -84,36 +98,32 @@ public class ClanService {
                         entity -> {
                             entity.getIntegrants().remove(user);
                             repository.save(entity);
+                            eventPublisher.publishEvent(new MembershipChangedEvent(entity.getId(), user.getId(), false));
                         },
                         () -> new EntityNotFoundException("Clã não localizado!"));
     }
 
     public List<UnitDto> listUnits(final long id) {
-        return repository.findById(id)
-                .map(clan -> clan.getUnits().stream()
-                        .map(unitConverter::toDto)
-                        .sorted((a, b) -> a.getName().compareTo(b.getName()))
-                        .toList())
-                .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
+        requireExists(id);
+        return unitRepository.findSummariesByClanId(id).stream()
+                .map(unitConverter::toDto)
+                .toList();
     }
 
     public List<QuestionDto> listQuestions(final long id) {
-        return repository.findById(id)
-                .map(clan -> clan.getUnits().stream()
-                        .flatMap(unit -> unit.getQuestions().stream())
-                        .map(questionConverter::toDto)
-                        .toList())
-                .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
+        requireExists(id);
+        return questionService.findByClanId(id);
     }
 
     public List<String> listTopics(final long id) {
-        return repository.findById(id)
-                .map(clan -> clan.getUnits().stream()
-                        .flatMap(unit -> unit.getQuestions().stream())
-                        .flatMap(question -> question.getTopics().stream())
-                        .map(topicConverter::toDto)
-                        .toList())
-                .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
+        requireExists(id);
+        return questionRepository.findTopicNamesByClanId(id);
+    }
+
+    private void requireExists(final long id) {
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Clã não localizado.");
+        }
     }
 
 }
@@ -0,0 +1,77 @@
+package com.media.noesis.services;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.media.noesis.config.AuthenticatedUser;
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Role;
+import com.media.noesis.repositories.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Usuário logado na requisição atual, compartilhado por controladores e
+ * serviços. O ID e o papel vêm do usuário autenticado, sem consultar o banco;
+ * a entidade completa só é carregada quando necessária, e uma única vez por
+ * requisição.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    private AuthenticatedUser principal;
+    private User user;
+
+    public long getId() {
+        return principal().id();
+    }
+
+    public Role getRole() {
+        return principal().role();
+    }
+
+    /**
+     * Referência ao usuário para uso em associações, sem carregar a entidade.
+     */
+    public User getReference() {
+        return user != null ? user : entityManager.getReference(User.class, getId());
+    }
+
+    /**
+     * Entidade completa do usuário, carregada na primeira chamada.
+     */
+    public User get() {
+        if (user == null) {
+            final long id = getId();
+            user = userRepository.findById(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + principal.email()));
+        }
+        return user;
+    }
+
+    private AuthenticatedUser principal() {
+        if (principal == null) {
+            final var authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication.getPrincipal() instanceof AuthenticatedUser authenticated) {
+                principal = authenticated;
+            } else {
+                // Autenticação que já carregou a entidade (sem o principal montado das claims).
+                final var username = authentication.getName();
+                user = authentication.getPrincipal() instanceof User loaded ? loaded
+                        : userRepository.findByEmail(username)
+                                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
+                principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+            }
+        }
+        return principal;
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.media.noesis.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.media.noesis.dto.AnswerExportDto;
+import com.media.noesis.dto.UserDto;
+import com.media.noesis.enums.ExportFormat;
+import com.media.noesis.enums.Role;
+import com.media.noesis.exceptions.UnauthorizedException;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exportações de listagens grandes, escritas na resposta à medida que as
+ * linhas chegam do banco.
+ *
+ * <p>
+ * Cada exportação lê um {@link Stream} de DTOs, buscado em blocos de
+ * {@link AnswerRepository#EXPORT_FETCH_SIZE} linhas dentro de uma transação
+ * somente leitura, e escreve uma linha por vez: a memória usada não depende
+ * do tamanho do resultado. Se o cliente desconectar, a escrita falha,
+ * o stream é fechado e a consulta é encerrada junto com a transação.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private record Column<T>(String header, Function<T, Object> value) {
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final String CSV_LINE_SEPARATOR = "\r\n";
+
+    private static final List<Column<AnswerExportDto>> ANSWER_COLUMNS = List.of(
+            new Column<>("id", AnswerExportDto::getId),
+            new Column<>("timestamp", AnswerExportDto::getTimestamp),
+            new Column<>("userId", AnswerExportDto::getUserId),
+            new Column<>("userName", AnswerExportDto::getUserName),
+            new Column<>("userEmail", AnswerExportDto::getUserEmail),
+            new Column<>("questionId", AnswerExportDto::getQuestionId),
+            new Column<>("questionStatement", AnswerExportDto::getQuestionStatement),
+            new Column<>("optionId", AnswerExportDto::getOptionId),
+            new Column<>("correct", AnswerExportDto::isCorrect));
+
+    private static final List<Column<UserDto>> USER_COLUMNS = List.of(
+            new Column<>("id", UserDto::getId),
+            new Column<>("name", UserDto::getName),
+            new Column<>("email", UserDto::getEmail),
+            new Column<>("avatarId", UserDto::getAvatarId),
+            new Column<>("role", UserDto::getRole));
+
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
+    private final ClanRepository clanRepository;
+    private final CurrentUser currentUser;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Respostas a todas as quests de um clã. Apenas o mestre do clã pode
+     * exportá-las; a permissão é verificada antes de a resposta começar.
+     */
+    public StreamingResponseBody exportClanAnswers(final long clanId, final ExportFormat format)
+            throws UnauthorizedException {
+        final var clan = clanRepository.findSummaryById(clanId)
+                .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
+        if (clan.getOwnerId() != currentUser.getId()) {
+            throw new UnauthorizedException("Apenas o mestre do clã pode exportar as suas respostas.");
+        }
+
+        return out -> export(out, format, ANSWER_COLUMNS,
+                () -> answerRepository.streamExportByClanId(clanId));
+    }
+
+    public StreamingResponseBody exportUsers(final ExportFormat format) throws UnauthorizedException {
+        if (!Role.TEACHER.equals(currentUser.getRole())) {
+            throw new UnauthorizedException("Apenas mestres podem exportar os usuários.");
+        }
+
+        return out -> export(out, format, USER_COLUMNS,
+                userRepository::streamExport);
+    }
+
+    private <T> void export(final OutputStream out, final ExportFormat format, final List<Column<T>> columns,
+            final Supplier<Stream<T>> query) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (var rows = query.get()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(out, columns, rows.iterator());
+                    } else {
+                        writeNdjson(out, rows.iterator());
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            log.info("Exportação interrompida: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private <T> void writeNdjson(final OutputStream out, final Iterator<T> rows) throws IOException {
+        // Sem esvaziar o buffer a cada objeto: uma escrita no socket por bloco, não por linha.
+        final var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Uma linha por objeto, sem o espaço que o Jackson coloca entre valores.
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private static <T> void writeCsv(final OutputStream out, final List<Column<T>> columns, final Iterator<T> rows)
+            throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(columns.stream().map(Column::header).collect(Collectors.joining(",")));
+        writer.write(CSV_LINE_SEPARATOR);
+        while (rows.hasNext()) {
+            final T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, columns.get(i).value().apply(row));
+            }
+            writer.write(CSV_LINE_SEPARATOR);
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvValue(final Writer writer, final Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!(value instanceof String text)) {
+            writer.write(value.toString());
+            return;
+        }
+
+        // Textos que começam como fórmula seriam executados ao abrir o arquivo em uma planilha.
+        final String safe = !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            writer.write(safe);
+        } else {
+            writer.write('"');
+            writer.write(safe.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+}
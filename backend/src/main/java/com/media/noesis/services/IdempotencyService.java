@@ -0,0 +1,103 @@
+package com.media.noesis.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.media.noesis.entities.IdempotentResponse;
+import com.media.noesis.repositories.IdempotentResponseRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Guarda as respostas de requisições enviadas com {@code Idempotency-Key},
+ * para que repetições recebam a resposta original sem executar a operação de
+ * novo.
+ *
+ * <p>
+ * As respostas ficam em um cache em memória limitado por tamanho e tempo.
+ * Com {@code noesis.idempotency.database} habilitado, também são gravadas em
+ * uma tabela, para que repetições atendidas por outra instância as encontrem.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotentResponseRepository repository;
+
+    @Value("${noesis.idempotency.max-entries:100000}")
+    private long maxEntries;
+
+    @Value("${noesis.idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${noesis.idempotency.database:false}")
+    private boolean database;
+
+    private Cache<String, StoredResponse> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public Optional<StoredResponse> find(final String key) {
+        final var cached = cache.getIfPresent(key);
+        if (cached != null || !database) {
+            return Optional.ofNullable(cached);
+        }
+
+        return repository.findByIdempotencyKeyAndCreatedAtAfter(key, LocalDateTime.now().minusMinutes(ttlMinutes))
+                .map(row -> {
+                    final var response = new StoredResponse(row.getRequestHash(), row.getStatus(),
+                            row.getContentType(), row.getBody());
+                    cache.put(key, response);
+                    return response;
+                });
+    }
+
+    @Transactional
+    public void save(final String key, final StoredResponse response) {
+        cache.put(key, response);
+        if (database) {
+            repository.save(new IdempotentResponse()
+                    .setIdempotencyKey(key)
+                    .setRequestHash(response.requestHash())
+                    .setStatus(response.status())
+                    .setContentType(response.contentType())
+                    .setBody(response.body())
+                    .setCreatedAt(LocalDateTime.now()));
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${noesis.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (database) {
+            final int purged = repository.deleteByCreatedAtBefore(LocalDateTime.now().minusMinutes(ttlMinutes));
+            if (purged > 0) {
+                log.info("Respostas idempotentes expiradas removidas: {}.", purged);
+            }
+        }
+    }
+
+}
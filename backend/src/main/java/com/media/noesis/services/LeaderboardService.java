@@ -0,0 +1,260 @@
+package com.media.noesis.services;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.media.noesis.enums.RankingWindow;
+import com.media.noesis.enums.Role;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.events.ClanDeletedEvent;
+import com.media.noesis.events.MembershipChangedEvent;
+import com.media.noesis.events.UserDeletedEvent;
+import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.DailyScoreRepository;
+import com.media.noesis.repositories.ScoreRepository;
+import com.media.noesis.repositories.ScoreRepository.ClanUserPoints;
+import com.media.noesis.repositories.ScoreRepository.UserPoints;
+import com.media.noesis.repositories.UserRepository;
+import com.media.noesis.utils.Leaderboard;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantém em memória um {@link Leaderboard} global (todos os alunos) e um por
+ * clã (todos os integrantes), tanto para a pontuação total quanto para cada
+ * {@link RankingWindow janela de tempo} móvel. Os rankings são carregados na
+ * inicialização a partir das tabelas de pontuações e atualizados após o commit
+ * de cada resposta; os das janelas são recarregados a cada virada de dia.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    /**
+     * Rankings global e por clã de um mesmo período. {@code since} é nulo
+     * para a pontuação total.
+     */
+    private record Rankings(LocalDate since, Leaderboard global, Map<Long, Leaderboard> clans) {
+
+        static Rankings empty(final LocalDate since) {
+            return new Rankings(since, new Leaderboard(), new ConcurrentHashMap<>());
+        }
+
+        Leaderboard clan(final long clanId) {
+            final var leaderboard = clans.get(clanId);
+            return leaderboard != null ? leaderboard : new Leaderboard();
+        }
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final UserRepository userRepository;
+    private final ClanRepository clanRepository;
+    private final ScoreRepository scoreRepository;
+    private final DailyScoreRepository dailyScoreRepository;
+
+    private volatile Rankings lifetime = Rankings.empty(null);
+    private volatile Map<RankingWindow, Rankings> windows = Map.of();
+
+    public Leaderboard global() {
+        return lifetime.global();
+    }
+
+    /**
+     * Ranking de um clã. Clãs sem integrantes recebem um ranking vazio.
+     */
+    public Leaderboard clan(final long clanId) {
+        return lifetime.clan(clanId);
+    }
+
+    /**
+     * Ranking global restrito a uma janela móvel.
+     */
+    public Leaderboard global(final RankingWindow window) {
+        return window(window).global();
+    }
+
+    /**
+     * Ranking de um clã restrito a uma janela móvel.
+     */
+    public Leaderboard clan(final RankingWindow window, final long clanId) {
+        return window(window).clan(clanId);
+    }
+
+    /**
+     * Monta sob demanda um ranking para um intervalo arbitrário de dias, somando
+     * os pontos diários. Os participantes são os mesmos do ranking total.
+     */
+    @Transactional(readOnly = true)
+    public Leaderboard custom(final Long clanId, final LocalDate from, final LocalDate to) {
+        final var base = clanId == null ? global() : clan(clanId);
+        final Map<Long, Long> scores = new HashMap<>();
+        base.range(0, base.size()).forEach(entry -> scores.put(entry.userId(), 0L));
+
+        final List<UserPoints> points = clanId == null
+                ? dailyScoreRepository.sumGlobalPoints(from, to)
+                : dailyScoreRepository.sumClanPoints(clanId, from, to);
+        points.forEach(row -> scores.computeIfPresent(row.getUserId(), (id, previous) -> row.getPoints()));
+
+        return new Leaderboard(scores);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    /**
+     * Reconstrói todos os rankings a partir do banco de dados e os substitui de
+     * uma só vez.
+     */
+    @Transactional(readOnly = true)
+    public void reload() {
+        final long start = System.currentTimeMillis();
+
+        final var students = userRepository.findIdsByRole(Role.STUDENT);
+        final var memberships = clanRepository.findAllMemberships();
+
+        lifetime = build(null, students, memberships,
+                scoreRepository.findAllGlobalPoints(), scoreRepository.findAllClanPoints());
+        windows = buildWindows(students, memberships);
+
+        log.info("Rankings carregados: {} alunos, {} clãs ({} ms).",
+                students.size(), lifetime.clans().size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reconstrói apenas os rankings das janelas móveis, descartando os pontos
+     * dos dias que saíram de cada janela.
+     */
+    @Transactional(readOnly = true)
+    public void rollover() {
+        final long start = System.currentTimeMillis();
+
+        windows = buildWindows(userRepository.findIdsByRole(Role.STUDENT), clanRepository.findAllMemberships());
+
+        log.info("Rankings por período atualizados ({} ms).", System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnswerRecorded(final AnswerRecordedEvent event) {
+        if (event.correct()) {
+            final var day = event.timestamp().toLocalDate();
+            forEachRankings(rankings -> {
+                if (rankings.since() == null || !day.isBefore(rankings.since())) {
+                    rankings.global().increment(event.userId(), 1);
+                    rankings.clan(event.clanId()).increment(event.userId(), 1);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(final MembershipChangedEvent event) {
+        forEachRankings(rankings -> {
+            if (event.clanId() == null) {
+                if (event.joined()) {
+                    rankings.global().put(event.userId(), points(rankings, event.userId(), null));
+                } else {
+                    rankings.global().remove(event.userId());
+                }
+            } else if (event.joined()) {
+                rankings.clans().computeIfAbsent(event.clanId(), id -> new Leaderboard())
+                        .put(event.userId(), points(rankings, event.userId(), event.clanId()));
+            } else {
+                rankings.clan(event.clanId()).remove(event.userId());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(final UserDeletedEvent event) {
+        forEachRankings(rankings -> {
+            rankings.global().remove(event.userId());
+            rankings.clans().values().forEach(leaderboard -> leaderboard.remove(event.userId()));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClanDeleted(final ClanDeletedEvent event) {
+        forEachRankings(rankings -> rankings.clans().remove(event.clanId()));
+    }
+
+    private Rankings window(final RankingWindow window) {
+        final var rankings = windows.get(window);
+        return rankings != null ? rankings : Rankings.empty(window.since(LocalDate.now()));
+    }
+
+    private void forEachRankings(final Consumer<Rankings> action) {
+        action.accept(lifetime);
+        windows.values().forEach(action);
+    }
+
+    private long points(final Rankings rankings, final long userId, final Long clanId) {
+        if (rankings.since() == null) {
+            return (clanId == null
+                    ? scoreRepository.findGlobalPoints(userId)
+                    : scoreRepository.findClanPoints(userId, clanId)).orElse(0L);
+        }
+        final var today = LocalDate.now();
+        return clanId == null
+                ? dailyScoreRepository.sumUserPoints(userId, rankings.since(), today)
+                : dailyScoreRepository.sumUserPoints(userId, clanId, rankings.since(), today);
+    }
+
+    private Map<RankingWindow, Rankings> buildWindows(final List<Long> students,
+            final List<ClanRepository.Membership> memberships) {
+        final var today = LocalDate.now();
+        final Map<RankingWindow, Rankings> loaded = new EnumMap<>(RankingWindow.class);
+        for (final var window : RankingWindow.values()) {
+            if (window.isRolling()) {
+                final var since = window.since(today);
+                loaded.put(window, build(since, students, memberships,
+                        dailyScoreRepository.sumGlobalPoints(since, today),
+                        dailyScoreRepository.sumClanPoints(since, today)));
+            }
+        }
+        return loaded;
+    }
+
+    private static Rankings build(final LocalDate since, final List<Long> students,
+            final List<ClanRepository.Membership> memberships, final List<UserPoints> globalPoints,
+            final List<ClanUserPoints> clanPoints) {
+        // Ranking global: todos os alunos, com as pontuações globais.
+        final Map<Long, Long> globalScores = new HashMap<>();
+        students.forEach(id -> globalScores.put(id, 0L));
+        globalPoints.forEach(row -> globalScores.computeIfPresent(row.getUserId(), (id, points) -> row.getPoints()));
+
+        // Rankings dos clãs: todos os integrantes, com as pontuações do clã.
+        final Map<Long, Map<Long, Long>> clanScores = new HashMap<>();
+        memberships.forEach(row -> clanScores
+                .computeIfAbsent(row.getClanId(), id -> new HashMap<>())
+                .put(row.getUserId(), 0L));
+        clanPoints.forEach(row -> {
+            final var members = clanScores.get(row.getClanId());
+            if (members != null) {
+                members.computeIfPresent(row.getUserId(), (id, points) -> row.getPoints());
+            }
+        });
+
+        final Map<Long, Leaderboard> clans = new ConcurrentHashMap<>();
+        clanScores.forEach((clanId, scores) -> clans.put(clanId, new Leaderboard(scores)));
+
+        return new Rankings(since, new Leaderboard(globalScores), clans);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.media.noesis.services;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,8 +14,11 @@ import com.media.noesis.dto.OptionDto;
 import com.media.noesis.dto.OptionRequest;
 import com.media.noesis.entities.Answer;
 import com.media.noesis.enums.Role;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.exceptions.ConflictException;
+import com.media.noesis.exceptions.ServiceUnavailableException;
 import com.media.noesis.exceptions.UnauthorizedException;
-import com.media.noesis.exceptions.UnauthorizedException.RuntimeUnauthorizedException;
+import com.media.noesis.repositories.AnswerRepository;
 import com.media.noesis.repositories.OptionRepository;
 import com.media.noesis.repositories.QuestionRepository;
 
@@ -26,25 +30,26 @@ import lombok.AllArgsConstructor;
 public class OptionService {
 
     private static final String NOT_FOUND_MESSAGE = "Alternativa não localizada!";
+    private static final String ALREADY_ANSWERED_MESSAGE = "Você já havia respondido a esta quest!";
 
     private final OptionRepository repository;
     private final OptionConverter converter;
 
-    private final AuthService authService;
-    private final QuestionService questionService;
+    private final CurrentUser currentUser;
     private final AnswerConverter answerConverter;
     private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final ScoreService scoreService;
+    private final AnswerIngestionService ingestionService;
 
     public List<OptionDto> findAll() {
-        return repository.findAll().stream()
+        return repository.findAllSummaries().stream()
                 .map(converter::toDto)
                 .toList();
     }
 
     public void create(final OptionRequest request, final long questionId) throws UnauthorizedException {
-        final var author = authService.getLoggedUser();
-
-        if (!Role.TEACHER.equals(author.getRole())) {
+        if (!Role.TEACHER.equals(currentUser.getRole())) {
             throw new UnauthorizedException("Apenas mestres podem criar opções para quests.");
         } else {
             questionRepository.findById(questionId)
@@ -60,7 +65,7 @@ public class OptionService {
     }
 
     public OptionDto findById(final long id) {
-        return repository.findById(id)
+        return repository.findSummaryById(id)
                 .map(converter::toDto)
                 .orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MESSAGE));
     }
@@ -80,38 +85,52 @@ public class OptionService {
         repository.deleteById(id);
     }
 
-    public AnswerDto choose(final long id) throws UnauthorizedException {
+    /**
+     * Registra a escolha de uma alternativa pelo usuário logado. Com a gravação
+     * assíncrona habilitada, a resposta é validada aqui e gravada em lote
+     * depois; o DTO retornado então não tem ID.
+     */
+    @Transactional(rollbackFor = ConflictException.class)
+    public AnswerDto choose(final long id) throws ConflictException, ServiceUnavailableException {
+        final var option = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MESSAGE));
+        final var question = option.getQuestion();
+
+        // Obter usuário logado (sem carregar a entidade)
+        final long userId = currentUser.getId();
+
+        // Barrar usuário de responder a mesma questão mais de uma vez. A consulta
+        // usa o índice único (usuário, quest); a restrição cobre cliques simultâneos.
+        if (answerRepository.existsByUserIdAndQuestionId(userId, question.getId())) {
+            throw new ConflictException(ALREADY_ANSWERED_MESSAGE);
+        }
+
+        // Criar a nova resposta
+        final var answer = new Answer()
+                .setOption(option)
+                .setQuestion(question)
+                .setUser(currentUser.getReference())
+                .setTimestamp(LocalDateTime.now());
+
+        // Enfileirar para gravação em lote, se habilitado
+        if (ingestionService.isEnabled()) {
+            ingestionService.submit(new AnswerRecordedEvent(userId, question.getUnit().getClan().getId(),
+                    question.getId(), option.getId(), option.isCorrect(), answer.getTimestamp()));
+            return answerConverter.toDto(answer);
+        }
+
+        // Ou salvar imediatamente
         try {
-            return repository.findById(id)
-                    // Se a alternativa for encontrada...
-                    .map(option -> {
-                        // Obter usuário logado
-                        final var user = authService.getLoggedUser();
-
-                        // Barrar usuário de responder a mesma questão mais de uma vez
-                        if (questionService.listAnswers(option.getQuestion().getId()).stream()
-                                .anyMatch(ans -> ans.getUserId() == user.getId())) {
-                            throw new UnauthorizedException("Você já havia respondido a esta quest!").asRuntime();
-                        }
-
-                        // Criar nova entidade de resposta
-                        final var answer = new Answer()
-                                .setOption(option)
-                                .setUser(user)
-                                .setTimestamp(LocalDateTime.now());
-
-                        // Salvar no banco de dados
-                        option.getAnswers().add(answer);
-                        repository.save(option);
-
-                        // Transformar em DTO e retornar
-                        return answerConverter.toDto(answer);
-                    })
-                    // Se a alternativa não for encontrada...
-                    .orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MESSAGE));
-        } catch (RuntimeUnauthorizedException e) {
-            throw e.getSource();
+            answerRepository.saveAndFlush(answer);
+        } catch (final DataIntegrityViolationException e) {
+            throw new ConflictException(ALREADY_ANSWERED_MESSAGE);
         }
+
+        // Atualizar a pontuação na mesma transação
+        scoreService.record(answer);
+
+        // Transformar em DTO e retornar
+        return answerConverter.toDto(answer);
     }
 
 }
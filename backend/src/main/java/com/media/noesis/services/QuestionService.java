@@ -1,25 +1,35 @@
 package com.media.noesis.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.media.noesis.config.PaginationProperties;
 import com.media.noesis.converters.AnswerConverter;
 import com.media.noesis.converters.OptionConverter;
 import com.media.noesis.converters.QuestionConverter;
 import com.media.noesis.converters.TopicConverter;
-import com.media.noesis.converters.UserConverter;
 import com.media.noesis.dto.AnswerDto;
 import com.media.noesis.dto.AnswerWithDetailsDto;
+import com.media.noesis.dto.CursorPage;
+import com.media.noesis.dto.OptionDto;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.QuestionRequest;
-import com.media.noesis.entities.Answer;
 import com.media.noesis.entities.User;
 import com.media.noesis.enums.Role;
 import com.media.noesis.exceptions.UnauthorizedException;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.repositories.OptionRepository;
+import com.media.noesis.repositories.OptionRepository.OptionSummary;
 import com.media.noesis.repositories.QuestionRepository;
+import com.media.noesis.repositories.QuestionRepository.QuestionSummary;
+import com.media.noesis.repositories.QuestionRepository.QuestionTopic;
 import com.media.noesis.repositories.UnitRepository;
+import com.media.noesis.utils.Cursor;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -31,16 +41,18 @@ public class QuestionService {
     private final QuestionRepository repository;
     private final QuestionConverter converter;
 
-    private final UserConverter userConverter;
     private final TopicConverter topicConverter;
     private final OptionConverter optionConverter;
     private final AnswerConverter answerConverter;
     private final UnitRepository unitRepository;
-
-    public List<QuestionDto> findAll() {
-        return repository.findAll().stream()
-                .map(converter::toDto)
-                .toList();
+    private final OptionRepository optionRepository;
+    private final AnswerRepository answerRepository;
+    private final PaginationProperties pagination;
+
+    public CursorPage<QuestionDto> findAll(final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var rows = repository.findSummariesAfter(Cursor.decode(after).id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> Cursor.of(row.getId()), this::toDtos);
     }
 
     public void create(final QuestionRequest.Create request, final User author, final long unitId)
@@ -63,8 +75,8 @@ public class QuestionService {
     }
 
     public QuestionDto findById(final long id) {
-        return repository.findById(id)
-                .map(converter::toDto)
+        return repository.findSummaryById(id)
+                .map(question -> toDtos(List.of(question)).getFirst())
                 .orElseThrow(() -> new EntityNotFoundException("Quest não localizada!"));
     }
 
@@ -86,44 +98,71 @@ public class QuestionService {
         repository.deleteById(id);
     }
 
-    public List<QuestionDto> findByAuthorId(long authorId) {
-        return repository.findByAuthorId(authorId).stream()
-                .map(converter::toDto)
-                .toList();
+    public CursorPage<QuestionDto> findByAuthorId(final long authorId, final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var rows = repository.findSummariesByAuthorIdAfter(authorId, Cursor.decode(after).id(),
+                Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> Cursor.of(row.getId()), this::toDtos);
+    }
+
+    public List<QuestionDto> findByUnitId(final long unitId) {
+        return toDtos(repository.findSummariesByUnitId(unitId));
+    }
+
+    public List<QuestionDto> findByClanId(final long clanId) {
+        return toDtos(repository.findSummariesByClanId(clanId));
+    }
+
+    public List<QuestionDto> findByTopicId(final long topicId) {
+        return toDtos(repository.findSummariesByTopicId(topicId));
     }
 
     public List<AnswerDto> listAnswers(final long id) {
-        return repository.findById(id)
-                .map(question -> {
-                    return question.getOptions().stream()
-                            .flatMap(option -> option.getAnswers().stream()
-                            .map(answerConverter::toDto))
-                            .toList();
-                })
-                .orElseThrow(() -> new EntityNotFoundException("Quest não localizada!"));
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Quest não localizada!");
+        }
+        return answerRepository.findSummariesByQuestionId(id).stream()
+                .map(answerConverter::toDto)
+                .toList();
     }
 
     public List<AnswerWithDetailsDto> listAnswersWithDeitais(final long id) {
-        return repository.findById(id)
-                .map(question -> {
-                    return question.getOptions().stream()
-                            .flatMap(option -> option.getAnswers().stream()
-                            .map(answer -> new AnswerWithDetailsDto()
-                            .setId(answer.getId())
-                            .setOption(optionConverter.toDto(answer.getOption()))
-                            .setUser(userConverter.toDto(answer.getUser()))
-                            .setTimestamp(answer.getTimestamp())))
-                            .toList();
-                })
-                .orElseThrow(() -> new EntityNotFoundException("Quest não localizada!"));
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Quest não localizada!");
+        }
+        return answerRepository.findDetailsByQuestionId(id).stream()
+                .map(answerConverter::toDto)
+                .toList();
+    }
+
+    public Optional<AnswerDto> findUserAnswerForQuestion(long questionId, long userId) {
+        return answerRepository.findSummaryByQuestionIdAndUserId(questionId, userId)
+                .map(answerConverter::toDto);
     }
 
-    public Optional<Answer> findUserAnswerForQuestion(long questionId, User user) {
-        return repository.findById(questionId)
-                .flatMap(question -> question.getOptions().stream()
-                .flatMap(option -> option.getAnswers().stream())
-                .filter(answer -> answer.getUser().getId() == user.getId())
-                .findFirst()
-                );
+    /**
+     * Monta os DTOs das quests com um número fixo de consultas: as alternativas
+     * e os tópicos de todas elas são buscados de uma só vez.
+     */
+    private List<QuestionDto> toDtos(final List<QuestionSummary> questions) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = questions.stream()
+                .map(QuestionSummary::getId)
+                .toList();
+        final Map<Long, List<OptionDto>> options = optionRepository.findSummariesByQuestionIdIn(ids).stream()
+                .collect(Collectors.groupingBy(OptionSummary::getQuestionId,
+                        Collectors.mapping(optionConverter::toDto, Collectors.toList())));
+        final Map<Long, List<String>> topics = repository.findTopicsByQuestionIdIn(ids).stream()
+                .collect(Collectors.groupingBy(QuestionTopic::getQuestionId,
+                        Collectors.mapping(QuestionTopic::getName, Collectors.toList())));
+
+        return questions.stream()
+                .map(question -> converter.toDto(question,
+                        options.getOrDefault(question.getId(), List.of()),
+                        topics.getOrDefault(question.getId(), List.of())))
+                .toList();
     }
 }
@@ -0,0 +1,295 @@
+package com.media.noesis.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.media.noesis.converters.UserConverter;
+import com.media.noesis.dto.RankingDiffDto;
+import com.media.noesis.dto.RankingEntryDto;
+import com.media.noesis.entities.User;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.events.ClanDeletedEvent;
+import com.media.noesis.events.MembershipChangedEvent;
+import com.media.noesis.events.UserDeletedEvent;
+import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.UserRepository;
+import com.media.noesis.utils.Leaderboard;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Envia o topo do ranking de um clã por Server-Sent Events. Cada assinante
+ * recebe o topo completo uma vez ({@code snapshot}) e depois apenas as
+ * mudanças ({@code diff}).
+ *
+ * <p>
+ * As respostas apenas marcam o clã como alterado; as mudanças são acumuladas e
+ * enviadas em lote a cada intervalo, fora das threads que atendem requisições.
+ * O envio a cada assinante roda em um pool próprio, de tamanho e fila
+ * limitados, para que um cliente lento não segure as tarefas agendadas: quem
+ * ainda não recebeu o diff anterior quando chega o próximo é desconectado, e
+ * ao reconectar recebe um novo snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingStreamService {
+
+    /**
+     * Assinantes de um mesmo clã e tamanho de topo, que compartilham o último
+     * estado enviado.
+     */
+    private static final class Channel {
+
+        final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        List<Leaderboard.Entry> sent = List.of();
+
+    }
+
+    /**
+     * Um assinante e se há um envio dele ainda em andamento no pool.
+     */
+    private record Subscriber(SseEmitter emitter, AtomicBoolean sending) {
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(RankingStreamService.class);
+
+    private static final int MAX_TOP = 100;
+
+    private final LeaderboardService leaderboardService;
+    private final ClanRepository clanRepository;
+    private final UserRepository userRepository;
+    private final UserConverter userConverter;
+
+    private final Map<Long, Map<Integer, Channel>> channels = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @Value("${noesis.rankings.stream-timeout-ms:1800000}")
+    private long timeout;
+
+    @Value("${noesis.rankings.stream-send-threads:4}")
+    private int sendThreads;
+
+    @Value("${noesis.rankings.stream-send-queue-capacity:1000}")
+    private int sendQueueCapacity;
+
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                Thread.ofPlatform().name("ranking-stream-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Registra um novo assinante e envia o topo atual do ranking do clã.
+     */
+    public SseEmitter subscribe(final long clanId, final int top) {
+        if (!clanRepository.existsById(clanId)) {
+            throw new EntityNotFoundException("Clã com id " + clanId + " não encontrado.");
+        }
+
+        final int size = Math.max(1, Math.min(top, MAX_TOP));
+        final var emitter = new SseEmitter(timeout);
+        final var subscriber = new Subscriber(emitter, new AtomicBoolean());
+        final var entries = leaderboardService.clan(clanId).range(0, size);
+
+        final var channel = channels.computeIfAbsent(clanId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(size, key -> new Channel());
+        synchronized (channel) {
+            if (channel.subscribers.isEmpty()) {
+                channel.sent = entries;
+            }
+            channel.subscribers.add(subscriber);
+        }
+
+        final Runnable unsubscribe = () -> channel.subscribers.remove(subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot")
+                    .data(toDtos(entries, IntStream.range(0, entries.size()).boxed().toList())));
+        } catch (final IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnswerRecorded(final AnswerRecordedEvent event) {
+        if (event.correct()) {
+            dirty.add(event.clanId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(final MembershipChangedEvent event) {
+        if (event.clanId() != null) {
+            dirty.add(event.clanId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(final UserDeletedEvent event) {
+        dirty.addAll(channels.keySet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClanDeleted(final ClanDeletedEvent event) {
+        final var removed = channels.remove(event.clanId());
+        if (removed != null) {
+            removed.values().forEach(channel -> channel.subscribers
+                    .forEach(subscriber -> subscriber.emitter().complete()));
+        }
+    }
+
+    /**
+     * Calcula, para cada clã alterado desde o último intervalo, um único diff
+     * por grupo de assinantes e o entrega ao pool de envio.
+     */
+    @Scheduled(fixedDelayString = "${noesis.rankings.stream-interval-ms:1000}")
+    public void flush() {
+        for (final var clanId : Set.copyOf(dirty)) {
+            dirty.remove(clanId);
+
+            final var clanChannels = channels.get(clanId);
+            if (clanChannels == null) {
+                continue;
+            }
+
+            final var leaderboard = leaderboardService.clan(clanId);
+            clanChannels.forEach((size, channel) -> {
+                final RankingDiffDto diff;
+                synchronized (channel) {
+                    if (channel.subscribers.isEmpty()) {
+                        return;
+                    }
+                    final var current = leaderboard.range(0, size);
+                    diff = diff(channel.sent, current);
+                    channel.sent = current;
+                }
+
+                if (!diff.getChanged().isEmpty() || !diff.getRemoved().isEmpty()) {
+                    broadcast(channel, diff);
+                }
+            });
+            clanChannels.values().removeIf(channel -> channel.subscribers.isEmpty());
+        }
+    }
+
+    private RankingDiffDto diff(final List<Leaderboard.Entry> previous, final List<Leaderboard.Entry> current) {
+        final Map<Long, Integer> previousRanks = new HashMap<>();
+        for (int i = 0; i < previous.size(); i++) {
+            previousRanks.put(previous.get(i).userId(), i);
+        }
+
+        final List<Integer> changed = new ArrayList<>();
+        final Set<Long> present = new HashSet<>();
+        for (int i = 0; i < current.size(); i++) {
+            final var entry = current.get(i);
+            final var rank = previousRanks.get(entry.userId());
+            present.add(entry.userId());
+            if (rank == null || rank != i || previous.get(rank).score() != entry.score()) {
+                changed.add(i);
+            }
+        }
+
+        return new RankingDiffDto()
+                .setChanged(toDtos(current, changed))
+                .setRemoved(previous.stream()
+                        .map(Leaderboard.Entry::userId)
+                        .filter(id -> !present.contains(id))
+                        .toList());
+    }
+
+    private void broadcast(final Channel channel, final RankingDiffDto diff) {
+        for (final var subscriber : channel.subscribers) {
+            if (!subscriber.sending().compareAndSet(false, true)) {
+                // Ainda não recebeu o diff anterior: perderia este ou o receberia fora de ordem. O
+                // emissor fica travado pelo envio pendente, que o encerra ao terminar.
+                log.debug("Assinante do ranking lento desconectado: envio anterior pendente");
+                channel.subscribers.remove(subscriber);
+                continue;
+            }
+            try {
+                sender.execute(() -> send(channel, subscriber, diff));
+            } catch (final RejectedExecutionException e) {
+                log.debug("Assinante do ranking lento desconectado: fila de envio cheia");
+                channel.subscribers.remove(subscriber);
+                subscriber.emitter().complete();
+            }
+        }
+    }
+
+    private void send(final Channel channel, final Subscriber subscriber, final RankingDiffDto diff) {
+        try {
+            subscriber.emitter().send(SseEmitter.event().name("diff").data(diff));
+            subscriber.sending().set(false);
+            if (!channel.subscribers.contains(subscriber)) {
+                subscriber.emitter().complete();
+            }
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("Assinante do ranking desconectado: {}", e.getMessage());
+            channel.subscribers.remove(subscriber);
+        }
+    }
+
+    /**
+     * Converte as entradas do ranking nas posições (base 0) indicadas em DTOs,
+     * buscando os dados dos usuários de uma só vez.
+     */
+    private List<RankingEntryDto> toDtos(final List<Leaderboard.Entry> ranking, final List<Integer> positions) {
+        final Map<Long, User> users = userRepository
+                .findAllById(positions.stream().map(position -> ranking.get(position).userId()).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        final List<RankingEntryDto> dtos = new ArrayList<>(positions.size());
+        for (final int position : positions) {
+            final var entry = ranking.get(position);
+            final var user = users.get(entry.userId());
+            if (user != null) {
+                final var dto = new RankingEntryDto(userConverter.toDto(user)).setRank(position + 1L);
+                dto.setScore(entry.score());
+                dtos.add(dto);
+            }
+        }
+        return dtos;
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.media.noesis.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.media.noesis.entities.RefreshToken;
+import com.media.noesis.entities.User;
+import com.media.noesis.exceptions.UnauthorizedException;
+import com.media.noesis.repositories.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Emite e renova os pares de access token (JWT de curta duração) e refresh
+ * token (opaco, de uso único). A renovação não verifica a senha de novo: basta
+ * um refresh token válido, que é trocado por um novo a cada uso.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    public record IssuedTokens(User user, String accessToken, String refreshToken) {
+
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repository;
+    private final TokenService tokenService;
+    private final TokenRevocationService revocationService;
+
+    @Value("${noesis.security.refresh-token-ttl-days:14}")
+    private long refreshTokenTtlDays;
+
+    /**
+     * Inicia uma nova família de tokens, após um login.
+     */
+    @Transactional
+    public IssuedTokens issue(final User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Troca um refresh token por um novo par de tokens. Reapresentar um token
+     * já utilizado indica vazamento: toda a família é revogada.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public IssuedTokens rotate(final String refreshToken) throws UnauthorizedException {
+        final var stored = repository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Refresh token inválido."));
+
+        if (stored.getUsedAt() != null) {
+            log.warn("Refresh token reutilizado; revogando a família {} do usuário {}.", stored.getFamilyId(),
+                    stored.getUser().getId());
+            revokeFamily(stored.getFamilyId());
+            throw new UnauthorizedException("Sessão encerrada. Faça login novamente.");
+        }
+        if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new UnauthorizedException("Sessão expirada. Faça login novamente.");
+        }
+
+        final var user = stored.getUser();
+        if (user.getTokenVersion() != stored.getTokenVersion()) {
+            throw new UnauthorizedException("Sessão encerrada. Faça login novamente.");
+        }
+
+        stored.setUsedAt(LocalDateTime.now());
+        return issue(user, stored.getFamilyId());
+    }
+
+    /**
+     * Encerra a sessão do refresh token: revoga toda a família, inclusive o
+     * access token ainda válido. Tokens desconhecidos são ignorados.
+     */
+    @Transactional
+    public void revoke(final String refreshToken) {
+        repository.findByTokenHash(hash(refreshToken))
+                .ifPresent(stored -> revokeFamily(stored.getFamilyId()));
+    }
+
+    @Transactional
+    @Scheduled(cron = "${noesis.security.refresh-tokens.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        final int purged = repository.deleteByExpiresAtBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Refresh tokens expirados removidos: {}.", purged);
+        }
+    }
+
+    private IssuedTokens issue(final User user, final String familyId) {
+        final var bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        final var refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        final var accessTokenId = UUID.randomUUID().toString();
+        final var now = LocalDateTime.now();
+
+        repository.save(new RefreshToken()
+                .setTokenHash(hash(refreshToken))
+                .setUser(user)
+                .setFamilyId(familyId)
+                .setAccessTokenId(accessTokenId)
+                .setTokenVersion(user.getTokenVersion())
+                .setCreatedAt(now)
+                .setExpiresAt(now.plusDays(refreshTokenTtlDays)));
+
+        return new IssuedTokens(user, tokenService.generateToken(user, accessTokenId), refreshToken);
+    }
+
+    private void revokeFamily(final String familyId) {
+        final var now = LocalDateTime.now();
+        final Duration accessTokenTtl = tokenService.getAccessTokenTtl();
+        for (final var token : repository.findByFamilyId(familyId)) {
+            if (token.getUsedAt() == null) {
+                token.setUsedAt(now);
+            }
+            // Apenas os access tokens emitidos há menos que a sua validade ainda podem ser usados.
+            final var accessExpiresAt = token.getCreatedAt().plus(accessTokenTtl);
+            if (accessExpiresAt.isAfter(now)) {
+                revocationService.revoke(token.getAccessTokenId(), accessExpiresAt);
+            }
+        }
+    }
+
+    private static String hash(final String token) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,333 @@
+package com.media.noesis.services;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.entities.Answer;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.repositories.DailyScoreRepository;
+import com.media.noesis.repositories.ScoreRepository;
+import com.media.noesis.repositories.ScoreRepository.UserPoints;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantém a tabela de pontuações de forma incremental, evitando recalcular a
+ * pontuação a partir de todas as respostas do usuário a cada leitura. Também
+ * mantém os pontos por dia usados pelos rankings por janela de tempo.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoreService {
+
+    public record ReconciliationReport(long checked, long drifted) {
+
+    }
+
+    private record ScoreKey(long userId, Long clanId) {
+
+    }
+
+    private record DailyScoreKey(long userId, long clanId, LocalDate day) {
+
+    }
+
+    private record LockedRow(long id, long points) {
+
+    }
+
+    /**
+     * Ordem em que as linhas de pontuação são gravadas e travadas: usuário, clã
+     * (a global primeiro) e dia. Com a mesma ordem em todas as transações, duas
+     * gravações concorrentes não entram em deadlock.
+     */
+    private static final Comparator<ScoreKey> SCORE_ORDER = Comparator.comparingLong(ScoreKey::userId)
+            .thenComparing(ScoreKey::clanId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final Comparator<DailyScoreKey> DAILY_SCORE_ORDER = Comparator
+            .comparingLong(DailyScoreKey::userId)
+            .thenComparingLong(DailyScoreKey::clanId)
+            .thenComparing(DailyScoreKey::day);
+
+    /**
+     * Soma os pontos na linha existente ou cria a linha, em um único comando: a
+     * primeira resposta de um usuário em respostas concorrentes não gera linhas
+     * duplicadas nem viola a restrição única. A linha global tem um índice
+     * único parcial próprio, pois a restrição {@code (user_id, clan_id)} não
+     * compara valores nulos.
+     */
+    private static final String UPSERT_GLOBAL_SQL = """
+            insert into scores (id, user_id, clan_id, points) values (nextval('scores_id_seq'), ?, null, ?)
+            on conflict (user_id) where clan_id is null do update set points = scores.points + excluded.points""";
+
+    private static final String UPSERT_CLAN_SQL = """
+            insert into scores (id, user_id, clan_id, points) values (nextval('scores_id_seq'), ?, ?, ?)
+            on conflict (user_id, clan_id) do update set points = scores.points + excluded.points""";
+
+    private static final String UPSERT_DAILY_SQL = """
+            insert into daily_scores (id, user_id, clan_id, day, points)
+            values (nextval('daily_scores_id_seq'), ?, ?, ?, ?)
+            on conflict (user_id, clan_id, day) do update set points = daily_scores.points + excluded.points""";
+
+    private static final String LOCK_SCORES_SQL = """
+            select id, clan_id, points from scores where user_id = ?
+            order by clan_id nulls first for update""";
+
+    private static final String LOCK_DAILY_SCORES_SQL = """
+            select id, clan_id, day, points from daily_scores where user_id = ? and day >= ?
+            order by clan_id, day for update""";
+
+    private static final String ADJUST_SCORE_SQL = "update scores set points = points + ? where id = ?";
+
+    private static final String ADJUST_DAILY_SCORE_SQL = "update daily_scores set points = points + ? where id = ?";
+
+    /**
+     * Uma linha que ainda não existia pode ser criada por uma resposta
+     * concorrente depois de lida; nesse caso ela já é a correta e a inserção
+     * não faz nada.
+     */
+    private static final String INSERT_SCORE_SQL = """
+            insert into scores (id, user_id, clan_id, points) values (nextval('scores_id_seq'), ?, ?, ?)
+            on conflict do nothing""";
+
+    private static final String INSERT_DAILY_SCORE_SQL = """
+            insert into daily_scores (id, user_id, clan_id, day, points)
+            values (nextval('daily_scores_id_seq'), ?, ?, ?, ?)
+            on conflict do nothing""";
+
+    private final ScoreRepository repository;
+    private final AnswerRepository answerRepository;
+    private final DailyScoreRepository dailyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${noesis.scores.daily-retention-days:400}")
+    private int dailyRetentionDays;
+
+    /**
+     * Contabiliza uma resposta recém-registrada e publica um
+     * {@link AnswerRecordedEvent}. Deve ser chamado dentro da mesma transação
+     * que persiste a resposta.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final Answer answer) {
+        final var option = answer.getOption();
+
+        record(List.of(new AnswerRecordedEvent(answer.getUser().getId(),
+                option.getQuestion().getUnit().getClan().getId(), option.getQuestion().getId(), option.getId(),
+                option.isCorrect(), answer.getTimestamp())));
+    }
+
+    /**
+     * Contabiliza um lote de respostas recém-registradas, com um único upsert
+     * por usuário e clã, e publica um {@link AnswerRecordedEvent} para cada
+     * uma. Deve ser chamado dentro da mesma transação que persiste as
+     * respostas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final Collection<AnswerRecordedEvent> answers) {
+        final Map<ScoreKey, Long> totals = new TreeMap<>(SCORE_ORDER);
+        final Map<DailyScoreKey, Long> dailyTotals = new TreeMap<>(DAILY_SCORE_ORDER);
+        for (final var answer : answers) {
+            if (answer.correct()) {
+                totals.merge(new ScoreKey(answer.userId(), null), 1L, Long::sum);
+                totals.merge(new ScoreKey(answer.userId(), answer.clanId()), 1L, Long::sum);
+                dailyTotals.merge(new DailyScoreKey(answer.userId(), answer.clanId(),
+                        answer.timestamp().toLocalDate()), 1L, Long::sum);
+            }
+        }
+
+        totals.forEach((key, points) -> {
+            if (key.clanId() == null) {
+                jdbcTemplate.update(UPSERT_GLOBAL_SQL, key.userId(), points);
+            } else {
+                jdbcTemplate.update(UPSERT_CLAN_SQL, key.userId(), key.clanId(), points);
+            }
+        });
+        dailyTotals.forEach((key, points) -> jdbcTemplate.update(UPSERT_DAILY_SQL, key.userId(), key.clanId(),
+                key.day(), points));
+
+        answers.forEach(eventPublisher::publishEvent);
+    }
+
+    public long getScore(final long userId) {
+        return repository.findGlobalPoints(userId).orElse(0L);
+    }
+
+    public long getScore(final long userId, final long clanId) {
+        return repository.findClanPoints(userId, clanId).orElse(0L);
+    }
+
+    /**
+     * Pontuações globais indexadas pelo ID do usuário. Usuários sem pontos não
+     * aparecem no mapa.
+     */
+    public Map<Long, Long> getScores() {
+        return toMap(repository.findAllGlobalPoints());
+    }
+
+    /**
+     * Pontuações em um clã indexadas pelo ID do usuário. Usuários sem pontos não
+     * aparecem no mapa.
+     */
+    public Map<Long, Long> getScores(final long clanId) {
+        return toMap(repository.findAllClanPoints(clanId));
+    }
+
+    /**
+     * Primeiro dia cujos pontos diários ainda são mantidos. Janelas que começam
+     * antes dele não podem ser calculadas.
+     */
+    public LocalDate getOldestDay() {
+        return LocalDate.now().minusDays(dailyRetentionDays - 1L);
+    }
+
+    /**
+     * Remove os pontos diários que já saíram do período de retenção.
+     */
+    @Transactional
+    public int purgeExpiredDailyScores() {
+        return dailyRepository.deleteByDayBefore(getOldestDay());
+    }
+
+    /**
+     * Confere a tabela de pontuações (e os pontos diários ainda retidos) com as
+     * respostas registradas e corrige as linhas que divergirem.
+     *
+     * <p>
+     * Uma leitura sem travas aponta os usuários suspeitos. Cada um é corrigido
+     * em uma transação curta: as linhas dele são travadas, os pontos esperados
+     * são recalculados e só a diferença é somada, de modo que respostas
+     * contabilizadas ao mesmo tempo não são sobrescritas.
+     */
+    public ReconciliationReport reconcile() {
+        final var oldestDay = getOldestDay();
+
+        final Map<ScoreKey, Long> expected = new HashMap<>();
+        answerRepository.countCorrectAnswersByUserAndClan().forEach(row -> {
+            expected.merge(new ScoreKey(row.getUserId(), row.getClanId()), row.getPoints(), Long::sum);
+            expected.merge(new ScoreKey(row.getUserId(), null), row.getPoints(), Long::sum);
+        });
+        final Map<ScoreKey, Long> observed = new HashMap<>();
+        repository.findAllGlobalPoints()
+                .forEach(row -> observed.put(new ScoreKey(row.getUserId(), null), row.getPoints()));
+        repository.findAllClanPoints()
+                .forEach(row -> observed.put(new ScoreKey(row.getUserId(), row.getClanId()), row.getPoints()));
+
+        final Map<DailyScoreKey, Long> expectedDaily = new HashMap<>();
+        answerRepository.countCorrectAnswersByUserClanAndDay(oldestDay.atStartOfDay()).forEach(row -> expectedDaily
+                .put(new DailyScoreKey(row.getUserId(), row.getClanId(), row.getDay()), row.getPoints()));
+        final Map<DailyScoreKey, Long> observedDaily = new HashMap<>();
+        dailyRepository.findAllPointsSince(oldestDay).forEach(row -> observedDaily
+                .put(new DailyScoreKey(row.getUserId(), row.getClanId(), row.getDay()), row.getPoints()));
+
+        final Set<Long> suspects = new TreeSet<>();
+        final long checked = compare(expected, observed, ScoreKey::userId, suspects)
+                + compare(expectedDaily, observedDaily, DailyScoreKey::userId, suspects);
+
+        long drifted = 0;
+        for (final long userId : suspects) {
+            drifted += transactionTemplate.execute(status -> reconcile(userId, oldestDay));
+        }
+        return new ReconciliationReport(checked, drifted);
+    }
+
+    /**
+     * Corrige as linhas de um usuário, já travadas, e devolve quantas
+     * divergiam.
+     */
+    private long reconcile(final long userId, final LocalDate oldestDay) {
+        final Map<ScoreKey, LockedRow> rows = new TreeMap<>(SCORE_ORDER);
+        jdbcTemplate.query(LOCK_SCORES_SQL, rs -> {
+            rows.put(new ScoreKey(userId, rs.getObject("clan_id", Long.class)),
+                    new LockedRow(rs.getLong("id"), rs.getLong("points")));
+        }, userId);
+        final Map<DailyScoreKey, LockedRow> dailyRows = new TreeMap<>(DAILY_SCORE_ORDER);
+        jdbcTemplate.query(LOCK_DAILY_SCORES_SQL, rs -> {
+            dailyRows.put(new DailyScoreKey(userId, rs.getLong("clan_id"), rs.getObject("day", LocalDate.class)),
+                    new LockedRow(rs.getLong("id"), rs.getLong("points")));
+        }, userId, oldestDay);
+
+        final Map<ScoreKey, Long> expected = new TreeMap<>(SCORE_ORDER);
+        answerRepository.countCorrectAnswersByClan(userId).forEach(row -> {
+            expected.merge(new ScoreKey(userId, row.getClanId()), row.getPoints(), Long::sum);
+            expected.merge(new ScoreKey(userId, null), row.getPoints(), Long::sum);
+        });
+        final Map<DailyScoreKey, Long> expectedDaily = new TreeMap<>(DAILY_SCORE_ORDER);
+        answerRepository.countCorrectAnswersByClanAndDay(userId, oldestDay.atStartOfDay()).forEach(row -> expectedDaily
+                .put(new DailyScoreKey(userId, row.getClanId(), row.getDay()), row.getPoints()));
+
+        long drifted = 0;
+        for (final var entry : rows.entrySet()) {
+            final long delta = expected.getOrDefault(entry.getKey(), 0L) - entry.getValue().points();
+            if (delta != 0) {
+                drifted++;
+                jdbcTemplate.update(ADJUST_SCORE_SQL, delta, entry.getValue().id());
+            }
+        }
+        for (final var entry : expected.entrySet()) {
+            final var key = entry.getKey();
+            if (!rows.containsKey(key) && entry.getValue() != 0) {
+                drifted++;
+                jdbcTemplate.update(INSERT_SCORE_SQL, userId, key.clanId(), entry.getValue());
+            }
+        }
+        for (final var entry : dailyRows.entrySet()) {
+            final long delta = expectedDaily.getOrDefault(entry.getKey(), 0L) - entry.getValue().points();
+            if (delta != 0) {
+                drifted++;
+                jdbcTemplate.update(ADJUST_DAILY_SCORE_SQL, delta, entry.getValue().id());
+            }
+        }
+        for (final var entry : expectedDaily.entrySet()) {
+            final var key = entry.getKey();
+            if (!dailyRows.containsKey(key)) {
+                drifted++;
+                jdbcTemplate.update(INSERT_DAILY_SCORE_SQL, userId, key.clanId(), key.day(), entry.getValue());
+            }
+        }
+        return drifted;
+    }
+
+    /**
+     * Acrescenta a {@code suspects} os usuários com alguma linha divergente e
+     * devolve quantas linhas foram conferidas.
+     */
+    private static <K> long compare(final Map<K, Long> expected, final Map<K, Long> observed,
+            final ToLongFunction<K> userId, final Set<Long> suspects) {
+        final Set<K> keys = new HashSet<>(expected.keySet());
+        keys.addAll(observed.keySet());
+        for (final var key : keys) {
+            if (expected.getOrDefault(key, 0L).longValue() != observed.getOrDefault(key, 0L).longValue()) {
+                suspects.add(userId.applyAsLong(key));
+            }
+        }
+        return keys.size();
+    }
+
+    private static Map<Long, Long> toMap(final List<UserPoints> points) {
+        return points.stream()
+                .collect(Collectors.toMap(UserPoints::getUserId, UserPoints::getPoints));
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.media.noesis.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.media.noesis.dto.AnswerDto;
+import com.media.noesis.dto.SubmissionDto;
+import com.media.noesis.dto.SubmissionRequest;
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.exceptions.ConflictException;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.repositories.OptionRepository;
+import com.media.noesis.repositories.OptionRepository.UnitOption;
+import com.media.noesis.repositories.UnitRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+
+/**
+ * Registra de uma só vez as respostas de um aluno para várias quests de uma
+ * unidade, com um número fixo de consultas independente da quantidade de
+ * respostas.
+ */
+@Service
+@AllArgsConstructor
+public class SubmissionService {
+
+    /**
+     * Insere todas as respostas em um único comando. Respostas repetidas são
+     * ignoradas pela restrição única e identificadas pela ausência no retorno.
+     * Os IDs são tirados de {@code answers_id_seq}, como faz o Hibernate.
+     */
+    private static final String INSERT_SQL = """
+            insert into answers (id, user_id, option_id, question_id, timestamp)
+            select nextval('answers_id_seq'), ?, submitted.option_id, submitted.question_id, ?
+            from unnest(?::bigint[], ?::bigint[]) as submitted(option_id, question_id)
+            on conflict (user_id, question_id) do nothing
+            returning id, question_id""";
+
+    private final UnitRepository unitRepository;
+    private final OptionRepository optionRepository;
+    private final AnswerRepository answerRepository;
+    private final CurrentUser currentUser;
+    private final ScoreService scoreService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(rollbackFor = ConflictException.class)
+    public SubmissionDto submit(final long unitId, final SubmissionRequest request) throws ConflictException {
+        final long clanId = unitRepository.findClanIdById(unitId)
+                .orElseThrow(() -> new EntityNotFoundException("Unidade não localizada."));
+        final long userId = currentUser.getId();
+        final var items = request.getAnswers();
+
+        // 1. Cada quest pode aparecer uma única vez.
+        final var questionIds = new HashSet<Long>();
+        for (final var item : items) {
+            if (!questionIds.add(item.getQuestionId())) {
+                throw new IllegalArgumentException("A quest " + item.getQuestionId() + " foi respondida mais de uma vez.");
+            }
+        }
+
+        // 2. Todas as alternativas devem existir, pertencer à unidade e à quest informada.
+        final Map<Long, UnitOption> options = optionRepository
+                .findAllByIdInUnit(items.stream().map(SubmissionRequest.Item::getOptionId).toList(), unitId)
+                .stream()
+                .collect(Collectors.toMap(UnitOption::getId, Function.identity()));
+        for (final var item : items) {
+            final var option = options.get(item.getOptionId());
+            if (option == null || option.getQuestionId() != item.getQuestionId()) {
+                throw new IllegalArgumentException("A alternativa " + item.getOptionId()
+                        + " não pertence à quest " + item.getQuestionId() + " desta unidade.");
+            }
+        }
+
+        // 3. Nenhuma das quests pode ter sido respondida antes.
+        final var answered = answerRepository.findAnsweredQuestionIds(userId, questionIds);
+        if (!answered.isEmpty()) {
+            throw new ConflictException("Você já havia respondido às quests " + answered + "!");
+        }
+
+        // 4. Insere todas as respostas de uma vez; a restrição única cobre envios simultâneos.
+        final var timestamp = LocalDateTime.now();
+        final Map<Long, Long> answerIds = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            final var statement = connection.prepareStatement(INSERT_SQL);
+            statement.setLong(1, userId);
+            statement.setTimestamp(2, Timestamp.valueOf(timestamp));
+            statement.setArray(3, connection.createArrayOf("bigint",
+                    items.stream().map(SubmissionRequest.Item::getOptionId).toArray()));
+            statement.setArray(4, connection.createArrayOf("bigint",
+                    items.stream().map(SubmissionRequest.Item::getQuestionId).toArray()));
+            return statement;
+        }, row -> {
+            answerIds.put(row.getLong("question_id"), row.getLong("id"));
+        });
+        if (answerIds.size() != items.size()) {
+            throw new ConflictException("Você já havia respondido a alguma destas quests!");
+        }
+
+        // 5. Atualiza a pontuação uma única vez por clã.
+        final List<AnswerRecordedEvent> recorded = new ArrayList<>(items.size());
+        final List<AnswerDto> answers = new ArrayList<>(items.size());
+        for (final var item : items) {
+            final var option = options.get(item.getOptionId());
+            recorded.add(new AnswerRecordedEvent(userId, clanId, option.getQuestionId(), option.getId(),
+                    option.getCorrect(), timestamp));
+            answers.add(new AnswerDto()
+                    .setId(answerIds.get(option.getQuestionId()))
+                    .setUserId(userId)
+                    .setOptionId(option.getId())
+                    .setCorrect(option.getCorrect())
+                    .setTimestamp(timestamp));
+        }
+        scoreService.record(recorded);
+
+        return new SubmissionDto()
+                .setAnswers(answers)
+                .setScore(scoreService.getScore(userId));
+    }
+
+}
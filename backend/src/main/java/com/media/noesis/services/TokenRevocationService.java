@@ -0,0 +1,131 @@
+package com.media.noesis.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.media.noesis.entities.RevokedToken;
+import com.media.noesis.repositories.RevokedTokenRepository;
+import com.media.noesis.utils.BloomFilter;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lista de access tokens revogados, consultada a cada requisição autenticada.
+ *
+ * <p>
+ * A consulta rápida é feita em um {@link BloomFilter} em memória: a grande
+ * maioria dos tokens não está na lista e é aceita sem acessar o banco. Apenas
+ * quando o filtro indica uma possível revogação a tabela é consultada, o que
+ * descarta os falsos positivos. Cada instância acrescenta periodicamente ao
+ * filtro as revogações feitas pelas demais, e o reconstrói sem os tokens já
+ * expirados.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository repository;
+
+    @Value("${noesis.security.revocations.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${noesis.security.revocations.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${noesis.security.revocations.sync-interval-ms:5000}")
+    private long syncIntervalMillis;
+
+    private volatile BloomFilter filter;
+    /**
+     * Momento da última leitura da tabela; nulo até a carga inicial.
+     */
+    private volatile LocalDateTime lastSync;
+
+    @PostConstruct
+    void init() {
+        filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    /**
+     * Indica se o token foi revogado. Tokens sem ID nunca são considerados
+     * revogados.
+     */
+    public boolean isRevoked(final String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return repository.existsById(tokenId);
+    }
+
+    @Transactional
+    public void revoke(final String tokenId, final LocalDateTime expiresAt) {
+        if (expiresAt.isBefore(LocalDateTime.now())) {
+            return;
+        }
+        repository.save(new RevokedToken()
+                .setTokenId(tokenId)
+                .setRevokedAt(LocalDateTime.now())
+                .setExpiresAt(expiresAt));
+        filter.add(tokenId);
+    }
+
+    /**
+     * Acrescenta ao filtro os tokens revogados por outras instâncias. A janela
+     * consultada se sobrepõe à anterior para tolerar diferenças de relógio e
+     * transações que demoraram a confirmar.
+     */
+    @Scheduled(fixedDelayString = "${noesis.security.revocations.sync-interval-ms:5000}")
+    public void sync() {
+        final var previous = lastSync;
+        if (previous == null) {
+            return;
+        }
+        final var now = LocalDateTime.now();
+        repository.findTokenIdsRevokedSince(previous.minus(Duration.ofMillis(syncIntervalMillis * 2)))
+                .forEach(filter::add);
+        lastSync = now;
+    }
+
+    /**
+     * Remove as revogações de tokens já expirados e recria o filtro apenas com
+     * as restantes, já que um filtro de Bloom não permite remoções.
+     */
+    @Transactional
+    @Scheduled(cron = "${noesis.security.revocations.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        final int purged = repository.deleteByExpiresAtBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Revogações de tokens expirados removidas: {}.", purged);
+        }
+        reload();
+    }
+
+    private void reload() {
+        final var now = LocalDateTime.now();
+        final var rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+        final var tokenIds = repository.findUnexpiredTokenIds(now);
+        tokenIds.forEach(rebuilt::add);
+        filter = rebuilt;
+        lastSync = now;
+
+        log.info("Lista de tokens revogados carregada: {} tokens.", tokenIds.size());
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.media.noesis.services;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -14,72 +19,141 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.media.noesis.entities.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class TokenService {
 
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    public static final String VERSION_CLAIM = "ver";
+
     @Value("${api.security.token.secret}")
     private String secret;
 
+    @Value("${noesis.security.access-token-ttl-minutes:15}")
+    private long accessTokenTtlMinutes;
+
+    @Value("${noesis.security.claims-cache-size:10000}")
+    private long claimsCacheSize;
+
+    // Chave e parser são imutáveis e seguros para uso concorrente: criados uma única vez.
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /**
+     * Claims de tokens já verificados, indexados pelo SHA-256 do token. Cada
+     * entrada expira junto com o token.
+     */
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(Expiry.<String, Claims>creating((digest, claims) -> {
+                    final long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+                    return Duration.ofMillis(Math.max(0, remaining));
+                }))
+                .build();
+    }
+
     public String generateToken(User user) {
+        return generateToken(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Gera um access token com o ID ({@code jti}) informado, usado para
+     * revogá-lo antes de expirar.
+     */
+    public String generateToken(User user, String tokenId) {
         Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("userId", user.getId());
-        extraClaims.put("role", user.getRole().toString());
+        extraClaims.put(USER_ID_CLAIM, user.getId());
+        extraClaims.put(ROLE_CLAIM, user.getRole().toString());
+        extraClaims.put(VERSION_CLAIM, user.getTokenVersion());
 
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(tokenId)
                 .subject(user.getEmail())
                 .issuer("NoesisAPI")
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(Date.from(generateExpirationDate()))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    public Duration getAccessTokenTtl() {
+        return Duration.ofMinutes(accessTokenTtlMinutes);
+    }
+
     private Instant generateExpirationDate() {
-        // Token expira em 2 horas
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        // Tokens de curta duração: a sessão é mantida com refresh tokens.
+        return Instant.now().plus(getAccessTokenTtl());
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    /**
+     * Verifica a assinatura e a validade do token uma única vez e retorna as
+     * suas claims. Tokens inválidos ou expirados resultam em vazio.
+     */
+    public Optional<Claims> verify(String token) {
+        final String digest = digest(token);
+        final Claims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            // A entrada pode sobreviver alguns instantes ao token.
+            return cached.getExpiration().after(new Date()) ? Optional.of(cached) : Optional.empty();
+        }
+
+        try {
+            final Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            verifiedClaims.put(digest, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return verify(token)
+                .map(claims -> claims.getSubject().equals(userDetails.getUsername()))
+                .orElse(false);
     }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verify(token)
+                .map(claimsResolver)
+                .orElse(null);
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
@@ -0,0 +1,69 @@
+package com.media.noesis.services;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.media.noesis.events.CredentialsChangedEvent;
+import com.media.noesis.events.UserDeletedEvent;
+import com.media.noesis.repositories.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantém em memória a versão atual dos tokens de cada usuário, permitindo que
+ * o filtro de autenticação rejeite tokens revogados sem consultar o banco a
+ * cada requisição. As entradas são invalidadas pelos eventos locais e expiram
+ * após alguns segundos, o que limita o atraso quando a mudança ocorre em outra
+ * instância.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    /**
+     * Versão atribuída a usuários inexistentes: nenhum token a possui.
+     */
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+
+    @Value("${noesis.security.token-versions.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${noesis.security.token-versions.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private LoadingCache<Long, Integer> versions;
+
+    @PostConstruct
+    void init() {
+        versions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(REVOKED));
+    }
+
+    /**
+     * Indica se um token com a versão informada ainda vale para o usuário.
+     */
+    public boolean isCurrent(final long userId, final int version) {
+        return version != REVOKED && versions.get(userId) == version;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(final CredentialsChangedEvent event) {
+        versions.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(final UserDeletedEvent event) {
+        versions.put(event.userId(), REVOKED);
+    }
+
+}
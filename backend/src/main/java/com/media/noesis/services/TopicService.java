@@ -2,12 +2,15 @@ package com.media.noesis.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import com.media.noesis.converters.QuestionConverter;
-import com.media.noesis.converters.TopicConverter;
+import com.media.noesis.config.PaginationProperties;
+import com.media.noesis.dto.CursorPage;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.repositories.TopicRepository;
+import com.media.noesis.repositories.TopicRepository.TopicSummary;
+import com.media.noesis.utils.Cursor;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -19,14 +22,17 @@ public class TopicService {
     private static final String NOT_FOUND_MESSAGE = "Tópico não localizado.";
 
     private final TopicRepository repository;
-    private final TopicConverter converter;
 
-    private final QuestionConverter questionConverter;
+    private final QuestionService questionService;
+    private final PaginationProperties pagination;
 
-    public List<String> findAll() {
-        return repository.findAll().stream()
-                .map(converter::toDto)
-                .toList();
+    public CursorPage<String> findAll(final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var cursor = Cursor.decode(after);
+        final var rows = repository.findSummariesAfter(cursor.key(), cursor.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, row -> Cursor.of(row.getId(), row.getName()), page -> page.stream()
+                .map(TopicSummary::getName)
+                .toList());
     }
 
     public void update(final long id, final String name) {
@@ -44,15 +50,13 @@ public class TopicService {
     }
 
     public List<QuestionDto> listQuestions(final long id) {
-        return repository.findById(id)
+        // Se não encontrar, lançar exceção
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException(NOT_FOUND_MESSAGE);
+        }
 
-                // Se encontrar, transformar e listar
-                .map(topic -> topic.getQuestions().stream()
-                        .map(questionConverter::toDto)
-                        .toList())
-
-                // Senão, lançar exceção
-                .orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_MESSAGE));
+        // Senão, listar as quests do tópico
+        return questionService.findByTopicId(id);
     }
 
 }
@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import com.media.noesis.converters.QuestionConverter;
 import com.media.noesis.converters.UnitConverter;
 import com.media.noesis.dto.QuestionDto;
 import com.media.noesis.dto.UnitDto;
@@ -24,25 +23,23 @@ public class UnitService {
     private final UnitRepository repository;
     private final UnitConverter converter;
 
-    private final QuestionConverter questionConverter;
+    private final QuestionService questionService;
     private final ClanRepository clanRepository;
-    private final AuthService authService;
+    private final CurrentUser currentUser;
 
     public List<UnitDto> findAll() {
-        return repository.findAll().stream()
+        return repository.findAllSummaries().stream()
                 .map(converter::toDto)
                 .toList();
     }
 
     public void create(final UnitRequest request, final long clanId) throws UnauthorizedException {
-        final var user = authService.getLoggedUser();
-
         final var clan = clanRepository.findById(clanId)
                 .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
 
-        if (!Role.TEACHER.equals(user.getRole())) {
+        if (!Role.TEACHER.equals(currentUser.getRole())) {
             throw new UnauthorizedException("Apenas mestres podem criar unidades.");
-        } else if (!user.equals(clan.getOwner())) {
+        } else if (clan.getOwner().getId() != currentUser.getId()) {
             throw new UnauthorizedException("Mestres podem criar unidades apenas para os seus próprios clãs.");
         } else {
             final var entity = converter.toEntity(request)
@@ -53,7 +50,7 @@ public class UnitService {
     }
 
     public UnitDto findById(final long id) {
-        return repository.findById(id)
+        return repository.findSummaryById(id)
                 .map(converter::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Unidade não localizada!"));
     }
@@ -73,11 +70,10 @@ public class UnitService {
     }
 
     public List<QuestionDto> listQuestions(final long id) {
-        return repository.findById(id)
-                .map(clan -> clan.getQuestions().stream()
-                .map(questionConverter::toDto)
-                .toList())
-                .orElseThrow(() -> new EntityNotFoundException("Clã não localizado."));
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Unidade não localizada.");
+        }
+        return questionService.findByUnitId(id);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.media.noesis.services;
 
-import java.util.Collections;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -11,18 +16,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.media.noesis.converters.ClanConverter;
+import com.media.noesis.config.PaginationProperties;
 import com.media.noesis.converters.UserConverter;
 import com.media.noesis.dto.ClanDto;
+import com.media.noesis.dto.CursorPage;
+import com.media.noesis.dto.RankingPositionDto;
 import com.media.noesis.dto.UserDto;
 import com.media.noesis.dto.UserRequest;
 import com.media.noesis.dto.UserWithScoreDto;
-import com.media.noesis.entities.Answer;
-import com.media.noesis.entities.Clan;
 import com.media.noesis.entities.User;
+import com.media.noesis.enums.RankingWindow;
 import com.media.noesis.enums.Role;
+import com.media.noesis.events.CredentialsChangedEvent;
+import com.media.noesis.events.MembershipChangedEvent;
+import com.media.noesis.events.UserDeletedEvent;
 import com.media.noesis.exceptions.UnauthorizedException;
 import com.media.noesis.repositories.ClanRepository;
 import com.media.noesis.repositories.UserRepository;
+import com.media.noesis.repositories.UserRepository.UserSummary;
+import com.media.noesis.utils.Cursor;
+import com.media.noesis.utils.Leaderboard;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -36,13 +49,19 @@ public class UserService {
     private final ClanRepository clanRepository;
     private final PasswordEncoder passwordEncoder;
     private final ClanConverter clanConverter;
+    private final ScoreService scoreService;
+    private final LeaderboardService leaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PaginationProperties pagination;
 
     private static final String GLOBAL_CLAN_JOIN_CODE = "NOESIS-GLOBAL-CLAN-001";
+    private static final int MAX_RANKING_RADIUS = 50;
 
-    public List<UserDto> findAll() {
-        return repository.findAll().stream()
-                .map(converter::toDto)
-                .toList();
+    public CursorPage<UserDto> findAll(final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var rows = repository.findSummariesByIdGreaterThanOrderById(Cursor.decode(after).id(),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize);
     }
 
     @Transactional
@@ -61,6 +80,10 @@ public class UserService {
                     globalClan -> {
                         globalClan.getIntegrants().add(savedUser);
                         clanRepository.save(globalClan);
+
+                        eventPublisher.publishEvent(new MembershipChangedEvent(null, savedUser.getId(), true));
+                        eventPublisher.publishEvent(
+                                new MembershipChangedEvent(globalClan.getId(), savedUser.getId(), true));
                     },
                     () -> {
                         throw new IllegalStateException("Clã Global com código '" + GLOBAL_CLAN_JOIN_CODE
@@ -70,7 +93,7 @@ public class UserService {
     }
 
     public UserDto findById(final long id) {
-        return repository.findById(id)
+        return repository.findSummaryById(id)
                 .map(converter::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Usuário com id " + id + " não encontrado."));
     }
@@ -96,53 +119,61 @@ public class UserService {
         }
 
         entity.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        // Invalida os tokens emitidos com a senha anterior.
+        entity.setTokenVersion(entity.getTokenVersion() + 1);
         repository.save(entity);
+        eventPublisher.publishEvent(new CredentialsChangedEvent(id));
     }
 
     @Transactional
     public void delete(final long id) {
         repository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     public long getScore(final long id) {
-        return repository.findById(id)
-                .map(user -> user.getAnswers().stream()
-                .filter(answer -> answer.getOption().isCorrect())
-                .count())
-                .orElseThrow(() -> new EntityNotFoundException("Usuário com id " + id + " não encontrado."));
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Usuário com id " + id + " não encontrado.");
+        }
+        return scoreService.getScore(id);
     }
 
     public long getScore(final long id, final long clanId) {
-        return repository.findById(id)
-                .map(user -> user.getAnswers().stream()
-                .map(Answer::getOption)
-                .filter(option -> option.isCorrect()
-                && option.getQuestion().getUnit().getClan().getId() == clanId)
-                .count())
-                .orElseThrow(() -> new EntityNotFoundException("Usuário com id " + id + " não encontrado."));
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Usuário com id " + id + " não encontrado.");
+        }
+        return scoreService.getScore(id, clanId);
     }
 
-    public List<UserDto> listStudents() {
-        return repository.findByRole(Role.STUDENT).stream()
-                .map(converter::toDto)
-                .toList();
+    public CursorPage<UserDto> listStudents(final String after, final Integer size) {
+        return listByRole(Role.STUDENT, after, size);
     }
 
-    public List<UserDto> listTeachers() {
-        return repository.findByRole(Role.TEACHER).stream()
+    public CursorPage<UserDto> listTeachers(final String after, final Integer size) {
+        return listByRole(Role.TEACHER, after, size);
+    }
+
+    private CursorPage<UserDto> listByRole(final Role role, final String after, final Integer size) {
+        final int pageSize = pagination.resolve(size);
+        final var rows = repository.findSummariesByRoleAndIdGreaterThanOrderById(role, Cursor.decode(after).id(),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    private CursorPage<UserDto> toPage(final List<UserSummary> rows, final int pageSize) {
+        return CursorPage.of(rows, pageSize, row -> Cursor.of(row.getId()), page -> page.stream()
                 .map(converter::toDto)
-                .toList();
+                .toList());
     }
 
-    public List<ClanDto> getManagedClans(final User owner) {
-        return owner.getManagedClans().stream()
+    public List<ClanDto> getManagedClans(final long ownerId) {
+        return clanRepository.findSummariesByOwnerId(ownerId).stream()
                 .map(clanConverter::toDto)
                 .toList();
     }
 
-    public List<ClanDto> getJoinedClans(final User integrant) {
-        List<Clan> joinedClans = integrant.getJoinedClans();
-        return joinedClans.stream()
+    public List<ClanDto> getJoinedClans(final long integrantId) {
+        return clanRepository.findSummariesByIntegrantId(integrantId).stream()
                 .map(clanConverter::toDto)
                 .toList();
     }
@@ -150,39 +181,89 @@ public class UserService {
     /**
      * Gera o ranking de alunos de forma paginada. Se um clanId for fornecido, o
      * ranking é específico para aquele clã. Caso contrário, é um ranking
-     * global.
+     * global. Com uma janela, considera apenas os pontos feitos no período;
+     * {@code from} e {@code to} só são usados pela janela personalizada.
      */
-    public Page<UserWithScoreDto> getRanking(Pageable pageable, Long clanId) {
-        List<User> studentsToRank;
-
-        // 1. Determina a lista de alunos a serem classificados.
-        if (clanId != null) {
-            // Se um ID de clã for fornecido, busca os membros (integrants) daquele clã.
-            Clan clan = clanRepository.findById(clanId)
-                    .orElseThrow(() -> new EntityNotFoundException("Clã com id " + clanId + " não encontrado."));
-            studentsToRank = clan.getIntegrants();
-        } else {
-            // Caso contrário, busca todos os utilizadores que são alunos.
-            studentsToRank = repository.findByRole(Role.STUDENT);
+    public Page<UserWithScoreDto> getRanking(Pageable pageable, Long clanId, RankingWindow window, LocalDate from,
+            LocalDate to) {
+        // 1. Seleciona o ranking apropriado (global ou por clã, total ou por período).
+        Leaderboard leaderboard = getLeaderboard(clanId, window, from, to);
+
+        // 2. Obtém apenas as entradas da página solicitada, já ordenadas.
+        List<Leaderboard.Entry> entries = leaderboard.range(pageable.getOffset(), pageable.getPageSize());
+
+        // 3. Retorna um objeto Page.
+        return new PageImpl<>(toRankingDtos(entries), pageable, leaderboard.size());
+    }
+
+    /**
+     * Obtém a posição de um usuário no ranking (global ou do clã) e os
+     * {@code radius} usuários imediatamente acima e abaixo dele.
+     */
+    public RankingPositionDto getRankingPosition(final long id, final Long clanId, final RankingWindow window,
+            final LocalDate from, final LocalDate to, final int radius) {
+        final Leaderboard leaderboard = getLeaderboard(clanId, window, from, to);
+        final int reach = Math.max(0, Math.min(radius, MAX_RANKING_RADIUS));
+
+        final long rank = leaderboard.rank(id)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário com id " + id + " não faz parte deste ranking."));
+
+        // Busca a vizinhança de uma só vez e localiza o usuário dentro dela, já
+        // que a posição pode ter mudado entre as duas leituras.
+        final long start = Math.max(0, rank - reach);
+        final List<Leaderboard.Entry> entries = leaderboard.range(start, (int) (rank - start) + reach + 1);
+        int index = (int) Math.min(rank - start, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).userId() == id) {
+                index = i;
+                break;
+            }
         }
+        final boolean found = index < entries.size() && entries.get(index).userId() == id;
 
-        // 2. Calcula a pontuação para cada aluno e ordena a lista completa.
-        List<UserWithScoreDto> sortedRanking = studentsToRank.stream()
-                .map(user -> {
-                    // Usa o método de pontuação apropriado (global ou por clã).
-                    long score = (clanId != null) ? getScore(user.getId(), clanId) : getScore(user.getId());
-                    return new UserWithScoreDto(converter.toDto(user)).setScore(score);
-                })
-                .sorted((a, b) -> Long.compare(b.getScore(), a.getScore()))
-                .toList();
+        return new RankingPositionDto()
+                .setRank(start + index + 1)
+                .setScore(found ? entries.get(index).score() : leaderboard.score(id).orElse(0))
+                .setAbove(toRankingDtos(entries.subList(Math.max(0, index - reach), index)))
+                .setBelow(toRankingDtos(entries.subList(Math.min(entries.size(), found ? index + 1 : index),
+                        entries.size())));
+    }
+
+    private Leaderboard getLeaderboard(final Long clanId, final RankingWindow window, final LocalDate from,
+            final LocalDate to) {
+        if (clanId != null && !clanRepository.existsById(clanId)) {
+            throw new EntityNotFoundException("Clã com id " + clanId + " não encontrado.");
+        }
+
+        if (window == null) {
+            return clanId == null ? leaderboardService.global() : leaderboardService.clan(clanId);
+        } else if (window.isRolling()) {
+            return clanId == null ? leaderboardService.global(window) : leaderboardService.clan(window, clanId);
+        }
 
-        // 3. Pagina manualmente a lista ordenada.
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), sortedRanking.size());
+        // Janela personalizada: limitada ao período em que os pontos diários são mantidos.
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Informe um período válido (from <= to) para a janela personalizada.");
+        } else if (from.isBefore(scoreService.getOldestDay())) {
+            throw new IllegalArgumentException(
+                    "O período deve começar a partir de " + scoreService.getOldestDay() + ".");
+        }
+        return leaderboardService.custom(clanId, from, to);
+    }
 
-        List<UserWithScoreDto> pageContent = sortedRanking.isEmpty() ? Collections.emptyList() : sortedRanking.subList(start, end);
+    /**
+     * Converte entradas do ranking em DTOs, buscando os dados dos usuários de
+     * uma só vez.
+     */
+    private List<UserWithScoreDto> toRankingDtos(final List<Leaderboard.Entry> entries) {
+        Map<Long, UserSummary> users = repository
+                .findSummariesByIdIn(entries.stream().map(Leaderboard.Entry::userId).toList()).stream()
+                .collect(Collectors.toMap(UserSummary::getId, Function.identity()));
 
-        // 4. Retorna um objeto Page.
-        return new PageImpl<>(pageContent, pageable, sortedRanking.size());
+        return entries.stream()
+                .filter(entry -> users.containsKey(entry.userId()))
+                .map(entry -> new UserWithScoreDto(converter.toDto(users.get(entry.userId())))
+                        .setScore(entry.score()))
+                .toList();
     }
 }
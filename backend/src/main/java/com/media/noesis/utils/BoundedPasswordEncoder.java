@@ -0,0 +1,125 @@
+package com.media.noesis.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executa a codificação e a verificação de senhas de outro
+ * {@link PasswordEncoder} em um pool de tamanho fixo, com fila limitada.
+ *
+ * <p>
+ * O hash é intencionalmente caro (~100 ms), então um pico de logins ocuparia
+ * todas as threads de requisição. Aqui, no máximo {@code threads} hashes rodam
+ * ao mesmo tempo; quem chega com a fila cheia, ou espera além do limite,
+ * recebe {@link RejectedExecutionException} imediatamente. A thread da
+ * requisição apenas aguarda o resultado; as requisições rodam em threads
+ * virtuais ({@code spring.threads.virtual.enabled}, ligado por padrão em
+ * {@code NoesisApplication}), e a espera não ocupa uma thread do sistema.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(final PasswordEncoder delegate, final int threads, final int queueCapacity,
+            final long timeoutMillis, final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue,
+                Thread.ofPlatform().name("password-hasher-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("noesis.passwords.queue.depth", queue, BlockingQueue::size)
+                .description("Hashes de senha aguardando execução")
+                .register(meterRegistry);
+        encodeTimer = Timer.builder("noesis.passwords.hash")
+                .description("Tempo de cálculo de cada hash de senha")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        matchesTimer = Timer.builder("noesis.passwords.hash")
+                .description("Tempo de cálculo de cada hash de senha")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("noesis.passwords.queue.wait")
+                .description("Tempo de espera na fila antes do cálculo do hash")
+                .register(meterRegistry);
+        rejectedCounter = meterRegistry.counter("noesis.passwords.rejected");
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Barato (apenas lê o custo do hash), por isso roda na thread chamadora.
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(final Timer timer, final Callable<T> task) {
+        final long submitted = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (final RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Muitas autenticações em andamento. Tente novamente em instantes.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Muitas autenticações em andamento. Tente novamente em instantes.", e);
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.media.noesis.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição opaca em uma listagem ordenada por {@code (chave, id)}: a última
+ * linha da página anterior. Listagens ordenadas apenas pelo ID não têm chave.
+ * A próxima página começa logo depois dela, com o mesmo custo de uma busca
+ * pelo índice, independente de quantas páginas vieram antes.
+ */
+public record Cursor(long id, String key) {
+
+    private static final Cursor START = new Cursor(0, "");
+
+    public static Cursor of(final long id) {
+        return new Cursor(id, null);
+    }
+
+    public static Cursor of(final long id, final String key) {
+        return new Cursor(id, key);
+    }
+
+    public String encode() {
+        final String value = key == null ? Long.toString(id) : id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê um cursor recebido do cliente. Sem cursor, retorna a posição anterior
+     * à primeira linha (ID 0 e chave vazia).
+     */
+    public static Cursor decode(final String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int separator = decoded.indexOf(':');
+            return separator < 0
+                    ? new Cursor(Long.parseLong(decoded), "")
+                    : new Cursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + value + ".");
+        }
+    }
+
+}
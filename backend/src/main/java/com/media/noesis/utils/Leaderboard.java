@@ -0,0 +1,301 @@
+package com.media.noesis.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranking em memória ordenado por pontuação (decrescente) e, em caso de
+ * empate, pelo ID do usuário (crescente).
+ *
+ * <p>
+ * Implementado como uma treap com o tamanho de cada subárvore, o que permite
+ * atualizar pontuações em O(log n), obter uma página em O(log n + k) e a
+ * posição de um usuário em O(log n). É seguro para uso concorrente.
+ */
+public class Leaderboard {
+
+    public record Entry(long userId, long score) {
+
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparingLong(Entry::userId);
+
+    private static final class Node {
+
+        final long userId;
+        final long score;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(final long userId, final long score, final int priority) {
+            this.userId = userId;
+            this.score = score;
+            this.priority = priority;
+        }
+
+    }
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    public Leaderboard() {
+    }
+
+    /**
+     * Cria um ranking já preenchido, em O(n log n) para ordenar e O(n) para
+     * montar a árvore.
+     */
+    public Leaderboard(final Map<Long, Long> initialScores) {
+        final var entries = initialScores.entrySet().stream()
+                .map(entry -> new Entry(entry.getKey(), entry.getValue()))
+                .sorted(ORDER)
+                .toList();
+
+        // Árvore cartesiana: a pilha guarda o caminho mais à direita da árvore.
+        final Deque<Node> rightSpine = new ArrayDeque<>();
+        for (final var entry : entries) {
+            final var node = new Node(entry.userId(), entry.score(), random.nextInt());
+            Node last = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                last = rightSpine.pop();
+            }
+            node.left = last;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+            scores.put(entry.userId(), entry.score());
+        }
+        root = rightSpine.peekLast();
+        resize(root);
+    }
+
+    /**
+     * Insere o usuário ou substitui a sua pontuação.
+     */
+    public void put(final long userId, final long score) {
+        lock.writeLock().lock();
+        try {
+            final var previous = scores.put(userId, score);
+            if (previous != null) {
+                root = erase(root, previous, userId);
+            }
+            root = insert(root, new Node(userId, score, random.nextInt()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Soma {@code delta} à pontuação de um usuário já presente no ranking.
+     * Usuários ausentes são ignorados.
+     */
+    public void increment(final long userId, final long delta) {
+        lock.writeLock().lock();
+        try {
+            final var previous = scores.get(userId);
+            if (previous != null) {
+                scores.put(userId, previous + delta);
+                root = erase(root, previous, userId);
+                root = insert(root, new Node(userId, previous + delta, random.nextInt()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(final long userId) {
+        lock.writeLock().lock();
+        try {
+            final var previous = scores.remove(userId);
+            if (previous != null) {
+                root = erase(root, previous, userId);
+            }
+            return previous != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OptionalLong score(final long userId) {
+        lock.readLock().lock();
+        try {
+            final var score = scores.get(userId);
+            return score == null ? OptionalLong.empty() : OptionalLong.of(score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posição (base 0) do usuário no ranking.
+     */
+    public OptionalLong rank(final long userId) {
+        lock.readLock().lock();
+        try {
+            final var score = scores.get(userId);
+            if (score == null) {
+                return OptionalLong.empty();
+            }
+
+            long rank = 0;
+            var node = root;
+            while (node != null) {
+                final int comparison = compare(score, userId, node);
+                if (comparison < 0) {
+                    node = node.left;
+                } else if (comparison > 0) {
+                    rank += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    rank += size(node.left);
+                    break;
+                }
+            }
+            return OptionalLong.of(rank);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna até {@code limit} entradas a partir da posição {@code offset}
+     * (base 0).
+     */
+    public List<Entry> range(final long offset, final int limit) {
+        lock.readLock().lock();
+        try {
+            final List<Entry> result = new ArrayList<>(Math.max(0, Math.min(limit, scores.size())));
+            collect(root, offset, limit, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(final Node node, final long offset, final int limit, final List<Entry> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+
+        final int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, result);
+        }
+        if (offset <= leftSize && result.size() < limit) {
+            result.add(new Entry(node.userId, node.score));
+        }
+        collect(node.right, Math.max(0, offset - leftSize - 1), limit, result);
+    }
+
+    private Node insert(final Node node, final Node item) {
+        if (node == null) {
+            return item;
+        }
+        if (item.priority > node.priority) {
+            split(node, item);
+            return update(item);
+        }
+        if (compare(item.score, item.userId, node) < 0) {
+            node.left = insert(node.left, item);
+        } else {
+            node.right = insert(node.right, item);
+        }
+        return update(node);
+    }
+
+    /**
+     * Divide {@code node} em torno da chave de {@code pivot}, pendurando as duas
+     * metades como filhos do pivô.
+     */
+    private static void split(final Node node, final Node pivot) {
+        if (node == null) {
+            pivot.left = null;
+            pivot.right = null;
+        } else if (compare(pivot.score, pivot.userId, node) < 0) {
+            split(node.left, pivot);
+            node.left = pivot.right;
+            pivot.right = update(node);
+        } else {
+            split(node.right, pivot);
+            node.right = pivot.left;
+            pivot.left = update(node);
+        }
+    }
+
+    private static Node erase(final Node node, final long score, final long userId) {
+        if (node == null) {
+            return null;
+        }
+
+        final int comparison = compare(score, userId, node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        } else if (comparison < 0) {
+            node.left = erase(node.left, score, userId);
+        } else {
+            node.right = erase(node.right, score, userId);
+        }
+        return update(node);
+    }
+
+    private static Node merge(final Node left, final Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        } else {
+            right.left = merge(left, right.left);
+            return update(right);
+        }
+    }
+
+    private static int compare(final long score, final long userId, final Node node) {
+        final int byScore = Long.compare(node.score, score);
+        return byScore != 0 ? byScore : Long.compare(userId, node.userId);
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(final Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int resize(final Node node) {
+        if (node == null) {
+            return 0;
+        }
+        node.size = 1 + resize(node.left) + resize(node.right);
+        return node.size;
+    }
+
+}
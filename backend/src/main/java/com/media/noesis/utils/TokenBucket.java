@@ -0,0 +1,62 @@
+package com.media.noesis.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de fichas sem travas: comporta até {@code capacity} requisições
+ * seguidas e repõe uma ficha a cada {@code period / capacity}.
+ *
+ * <p>
+ * Implementado como GCRA (<i>generic cell rate algorithm</i>), equivalente ao
+ * balde de fichas: em vez de contar as fichas, guarda em um único
+ * {@link AtomicLong} o instante teórico em que o balde estará cheio de novo.
+ * Cada requisição aceita empurra esse instante um intervalo para frente, com
+ * um compare-and-set.
+ */
+public class TokenBucket {
+
+    /**
+     * Resultado de uma tentativa. {@code retryAfterNanos} é zero quando a
+     * requisição é aceita; {@code resetNanos} é o tempo até o balde encher.
+     */
+    public record Result(boolean allowed, long remaining, long retryAfterNanos, long resetNanos) {
+
+    }
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(final long capacity, final Duration period, final long nowNanos) {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Capacidade e período devem ser positivos.");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.toleranceNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public Result tryConsume(final long nowNanos) {
+        while (true) {
+            final long current = fullAt.get();
+            final long base = Math.max(current, nowNanos);
+            final long next = base + intervalNanos;
+            final long debt = next - nowNanos;
+
+            if (debt > toleranceNanos) {
+                return new Result(false, 0, debt - toleranceNanos, base - nowNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Result(true, (toleranceNanos - debt) / intervalNanos, 0, debt);
+            }
+        }
+    }
+
+}
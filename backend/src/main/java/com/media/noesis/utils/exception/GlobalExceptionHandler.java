@@ -1,17 +1,22 @@
 package com.media.noesis.utils.exception;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -32,6 +37,19 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(error, message, HttpStatus.BAD_REQUEST.value()));
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+        String error = "Erro de validação nos campos";
+        String message = ex.getAllErrors().stream()
+                .map(errorObj -> errorObj instanceof FieldError fieldError
+                        ? fieldError.getField() + ": " + fieldError.getDefaultMessage()
+                        : errorObj.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.of(error, message, HttpStatus.BAD_REQUEST.value()));
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
         return buildErrorResponse(HttpStatus.CONFLICT, "Estado inválido", ex.getMessage());
@@ -58,6 +76,24 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Autenticação Falhou", "Login ou senha inválidos.");
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorResponse.of("Serviço sobrecarregado", ex.getMessage(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
+    /**
+     * Erros de endpoints que não podem retornar um {@link ProblemDetail}
+     * diretamente, como as exportações em stream.
+     */
+    @ExceptionHandler(ErrorResponseException.class)
+    public ResponseEntity<ProblemDetail> handleErrorResponseException(ErrorResponseException ex) {
+        return ResponseEntity.of(ex.getBody()).headers(ex.getHeaders()).build();
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex) {
         log.error("Erro inesperado capturado: ", ex);
@@ -0,0 +1,265 @@
+-- Schema tal como o Hibernate o criava com ddl-auto: update, com os mesmos
+-- nomes de restrições e índices. Bancos que já existiam antes das migrações
+-- são marcados nesta versão sem executá-la (baseline) e seguem pelas
+-- seguintes; mudanças no schema são sempre uma nova versão, nunca uma edição
+-- deste arquivo.
+
+create sequence answers_id_seq start with 1 increment by 50;
+
+create sequence clans_id_seq start with 1 increment by 50;
+
+create sequence daily_scores_id_seq start with 1 increment by 50;
+
+create sequence options_id_seq start with 1 increment by 50;
+
+create sequence questions_id_seq start with 1 increment by 50;
+
+create sequence refresh_tokens_id_seq start with 1 increment by 50;
+
+create sequence scores_id_seq start with 1 increment by 50;
+
+create sequence topics_id_seq start with 1 increment by 50;
+
+create sequence units_id_seq start with 1 increment by 50;
+
+create sequence users_id_seq start with 1 increment by 50;
+
+create table answers (
+    id bigint not null,
+    option_id bigint not null,
+    question_id bigint,
+    timestamp timestamp(6),
+    user_id bigint not null,
+    primary key (id),
+    constraint uknuhasayngavi95ujpmx6bk8np unique (user_id, question_id)
+);
+
+create table clans (
+    id bigint not null,
+    owner_id bigint not null,
+    join_code varchar(255) not null constraint uk2q0wg7xx0uk8vvl40xkegtx8q unique,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table clans_integrations (
+    clan bigint not null,
+    integrant bigint not null,
+    constraint uki84h459jbckl5af8obpnr22pr unique (clan, integrant)
+);
+
+create table daily_scores (
+    day date not null,
+    clan_id bigint not null,
+    id bigint not null,
+    points bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint uklda6h91p0wa6lput2qrstmfi7 unique (user_id, clan_id, day)
+);
+
+create table idempotent_responses (
+    status integer not null,
+    created_at timestamp(6) not null,
+    idempotency_key varchar(400) not null,
+    content_type varchar(255),
+    body bytea,
+    primary key (idempotency_key)
+);
+
+create table options (
+    correct boolean not null,
+    answer_count bigint default 0 not null,
+    id bigint not null,
+    question_id bigint not null,
+    assertion varchar(255) not null,
+    feedback varchar(255),
+    primary key (id),
+    constraint ukcp9iia722e307atcglbmdeoj1 unique (question_id, assertion)
+);
+
+create table questions (
+    author_id bigint not null,
+    id bigint not null,
+    unit_id bigint not null,
+    level varchar(255) check (level in ('EASY','MEDIUM','HARD')),
+    statement varchar(255) not null,
+    primary key (id)
+);
+
+create table questions_topics (
+    question bigint not null,
+    topic bigint not null,
+    constraint uk88nyslhx30tr1a7dlqdjcidn9 unique (question, topic)
+);
+
+create table refresh_tokens (
+    token_version integer not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint not null,
+    used_at timestamp(6),
+    user_id bigint not null,
+    access_token_id varchar(36) not null,
+    family_id varchar(36) not null,
+    token_hash varchar(64) not null constraint uko2mlirhldriil2y7krapq4frt unique,
+    primary key (id)
+);
+
+create table revoked_tokens (
+    expires_at timestamp(6) not null,
+    revoked_at timestamp(6) not null,
+    token_id varchar(36) not null,
+    primary key (token_id)
+);
+
+create table scores (
+    clan_id bigint,
+    id bigint not null,
+    points bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint uk7tsugs1cnio0s8n12y0e0acyq unique (user_id, clan_id)
+);
+
+create table topics (
+    id bigint not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table units (
+    clan_id bigint not null,
+    id bigint not null,
+    name varchar(255),
+    primary key (id),
+    constraint uk8u1vvqyr7877rk75ibcotwqf7 unique (clan_id, name)
+);
+
+create table users (
+    avatar_id integer not null,
+    token_version integer default 0 not null,
+    id bigint not null,
+    email varchar(255) not null constraint uk6dotkott2kjsp8vw4d0m25fb7 unique,
+    name varchar(255),
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('TEACHER','STUDENT')),
+    primary key (id)
+);
+
+create index idxksgv5g03darwwdiy1aepexh2o
+    on daily_scores (day);
+
+create index idx77pcv2k96gws7rk5kw0reliio
+    on idempotent_responses (created_at);
+
+create index idx5j1oskb7svqs0it0hjfgojeyl
+    on questions (author_id, id);
+
+create index idx4ixq5jb3ryjnew3som5gd88rl
+    on refresh_tokens (family_id);
+
+create index idxm04tmquntky3y2ikxuvkop9xp
+    on refresh_tokens (expires_at);
+
+create index idx6rduaswabyqkr6ann9cx59i0n
+    on revoked_tokens (revoked_at);
+
+create index idx4ofmhwy0wmfm5ugokccm8yema
+    on revoked_tokens (expires_at);
+
+create index idxa2a4dc7jp5dir8sn5fuksp9bb
+    on topics (name, id);
+
+create index idx4j8e97kbiqtf5le1a5g63hhwc
+    on users (role, id);
+
+alter table answers
+    add constraint fkn0s3utny5xipstu14dx3mdmfw
+    foreign key (option_id)
+    references options;
+
+alter table answers
+    add constraint fk3erw1a3t0r78st8ty27x6v3g1
+    foreign key (question_id)
+    references questions;
+
+alter table answers
+    add constraint fk5bp3d5loftq2vjn683ephn75a
+    foreign key (user_id)
+    references users;
+
+alter table clans
+    add constraint fkqf4hl6hdtqce6p2mh402xckps
+    foreign key (owner_id)
+    references users;
+
+alter table clans_integrations
+    add constraint fkcqagy5eve7hmjia5y2ngga557
+    foreign key (clan)
+    references clans;
+
+alter table clans_integrations
+    add constraint fkqe1if3fvd7tnw37oy63un67df
+    foreign key (integrant)
+    references users;
+
+alter table daily_scores
+    add constraint fkhxdpuyt4hcr0f4hjptijq4u8l
+    foreign key (clan_id)
+    references clans
+    on delete cascade;
+
+alter table daily_scores
+    add constraint fkk05m6dmnjegt863xqdfmwly3t
+    foreign key (user_id)
+    references users
+    on delete cascade;
+
+alter table options
+    add constraint fk5bmv46so2y5igt9o9n9w4fh6y
+    foreign key (question_id)
+    references questions;
+
+alter table questions
+    add constraint fkii8pqtr2qjv47ht06bg8vtl9n
+    foreign key (author_id)
+    references users;
+
+alter table questions
+    add constraint fktb5sxobrat1tuuolkge2qkic8
+    foreign key (unit_id)
+    references units;
+
+alter table questions_topics
+    add constraint fk1a1vy1vui905ihm4rjov1788m
+    foreign key (question)
+    references questions;
+
+alter table questions_topics
+    add constraint fknn04jr7oqno1ra6y137a6j5kk
+    foreign key (topic)
+    references topics;
+
+alter table refresh_tokens
+    add constraint fk1lih5y2npsf8u5o3vhdb9y0os
+    foreign key (user_id)
+    references users
+    on delete cascade;
+
+alter table scores
+    add constraint fkfs88boxt7xsfs6xo9o9uwe2fc
+    foreign key (clan_id)
+    references clans
+    on delete cascade;
+
+alter table scores
+    add constraint fktkgoiahryd4yntgywbqyyw8o8
+    foreign key (user_id)
+    references users
+    on delete cascade;
+
+alter table units
+    add constraint fkhchfyuvshyhq9fi8ovmpeitg5
+    foreign key (clan_id)
+    references clans;
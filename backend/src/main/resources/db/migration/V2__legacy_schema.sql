@@ -0,0 +1,167 @@
+-- Leva ao V1 os bancos criados pelo ddl-auto: update antes das migrações, que
+-- são marcados na versão 1 sem executá-la. O schema desses bancos é o do
+-- código anterior: faltam as tabelas de pontuações, tokens e respostas
+-- idempotentes, as colunas answers.question_id, users.token_version e
+-- options.answer_count e alguns índices. Tudo aqui só cria o que falta; em
+-- bancos criados pelo V1, nada muda. O MigrationTests aplica as migrações a
+-- um schema anterior a elas e o compara com o criado pelo V1.
+--
+-- Sem os avisos de "já existe", que o Flyway registraria em todo banco novo.
+set local client_min_messages = warning;
+
+--
+-- Os IDs são gerados pelo Hibernate em blocos de 50 valores (otimizador pooled),
+-- a partir das sequências <tabela>_id_seq. Em bancos criados quando as colunas
+-- eram IDENTITY, a coluna deixa de ser IDENTITY e ganha uma sequência comum,
+-- com incremento 50, que continua a partir do maior ID já usado: os IDs
+-- existentes não mudam.
+DO $$
+DECLARE
+    t text;
+    seq text;
+    last_id bigint;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'clans', 'units', 'topics', 'questions', 'options', 'answers', 'scores',
+            'daily_scores', 'refresh_tokens'] LOOP
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = t AND column_name = 'id'
+                    AND is_identity = 'YES') THEN
+            CONTINUE;
+        END IF;
+
+        seq := t || '_id_seq';
+        EXECUTE format('SELECT greatest(coalesce(max(id), 0), coalesce(pg_sequence_last_value(%L), 0)) FROM %I',
+                seq, t) INTO last_id;
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', t);
+        -- O primeiro valor lido é o fim do primeiro bloco: last_id + 1 até last_id + 50.
+        EXECUTE format('CREATE SEQUENCE %I START WITH %s INCREMENT BY 50', seq, last_id + 50);
+    END LOOP;
+END
+$$;
+
+-- Sequências das tabelas criadas abaixo.
+create sequence if not exists daily_scores_id_seq start with 1 increment by 50;
+
+create sequence if not exists refresh_tokens_id_seq start with 1 increment by 50;
+
+create sequence if not exists scores_id_seq start with 1 increment by 50;
+
+create table if not exists daily_scores (
+    day date not null,
+    clan_id bigint not null,
+    id bigint not null,
+    points bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint uklda6h91p0wa6lput2qrstmfi7 unique (user_id, clan_id, day)
+);
+
+create table if not exists idempotent_responses (
+    status integer not null,
+    created_at timestamp(6) not null,
+    idempotency_key varchar(400) not null,
+    content_type varchar(255),
+    body bytea,
+    primary key (idempotency_key)
+);
+
+create table if not exists refresh_tokens (
+    token_version integer not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint not null,
+    used_at timestamp(6),
+    user_id bigint not null,
+    access_token_id varchar(36) not null,
+    family_id varchar(36) not null,
+    token_hash varchar(64) not null constraint uko2mlirhldriil2y7krapq4frt unique,
+    primary key (id)
+);
+
+create table if not exists revoked_tokens (
+    expires_at timestamp(6) not null,
+    revoked_at timestamp(6) not null,
+    token_id varchar(36) not null,
+    primary key (token_id)
+);
+
+-- As pontuações ficam vazias aqui e são preenchidas pela reconciliação feita
+-- na inicialização (ScoreReconciliationJob).
+create table if not exists scores (
+    clan_id bigint,
+    id bigint not null,
+    points bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint uk7tsugs1cnio0s8n12y0e0acyq unique (user_id, clan_id)
+);
+
+alter table answers add column if not exists question_id bigint;
+
+alter table options add column if not exists answer_count bigint default 0 not null;
+
+alter table users add column if not exists token_version integer default 0 not null;
+
+-- A quest de cada resposta vem da alternativa. Respostas repetidas de um mesmo
+-- usuário a uma quest, que o código anterior aceitava, ficam sem quest e fora
+-- da restrição única: só a primeira é preenchida.
+update answers a set question_id = o.question_id
+from options o
+where o.id = a.option_id and a.question_id is null and not exists (
+    select 1 from answers b join options p on p.id = b.option_id
+    where b.user_id = a.user_id and p.question_id = o.question_id and b.id < a.id);
+
+-- Contagem de respostas por alternativa, até aqui só calculada nas consultas.
+update options o set answer_count = c.answers
+from (select option_id, count(*) as answers from answers group by option_id) c
+where c.option_id = o.id and o.answer_count <> c.answers;
+
+-- Restrições que faltam, com os nomes do V1. A restrição única das
+-- alternativas apontava para uma coluna inexistente, e o ddl-auto: update não
+-- conseguia criá-la.
+DO $$
+DECLARE
+    c text[];
+BEGIN
+    FOREACH c SLICE 1 IN ARRAY ARRAY[
+            ['answers', 'fk3erw1a3t0r78st8ty27x6v3g1', 'FOREIGN KEY (question_id) REFERENCES questions'],
+            ['answers', 'uknuhasayngavi95ujpmx6bk8np', 'UNIQUE (user_id, question_id)'],
+            ['daily_scores', 'fkhxdpuyt4hcr0f4hjptijq4u8l', 'FOREIGN KEY (clan_id) REFERENCES clans ON DELETE CASCADE'],
+            ['daily_scores', 'fkk05m6dmnjegt863xqdfmwly3t', 'FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE'],
+            ['options', 'ukcp9iia722e307atcglbmdeoj1', 'UNIQUE (question_id, assertion)'],
+            ['refresh_tokens', 'fk1lih5y2npsf8u5o3vhdb9y0os', 'FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE'],
+            ['scores', 'fkfs88boxt7xsfs6xo9o9uwe2fc', 'FOREIGN KEY (clan_id) REFERENCES clans ON DELETE CASCADE'],
+            ['scores', 'fktkgoiahryd4yntgywbqyyw8o8', 'FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE']] LOOP
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = c[1]::regclass AND conname = c[2]) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', c[1], c[2], c[3]);
+        END IF;
+    END LOOP;
+END
+$$;
+
+create index if not exists idxksgv5g03darwwdiy1aepexh2o
+    on daily_scores (day);
+
+create index if not exists idx77pcv2k96gws7rk5kw0reliio
+    on idempotent_responses (created_at);
+
+create index if not exists idx5j1oskb7svqs0it0hjfgojeyl
+    on questions (author_id, id);
+
+create index if not exists idx4ixq5jb3ryjnew3som5gd88rl
+    on refresh_tokens (family_id);
+
+create index if not exists idxm04tmquntky3y2ikxuvkop9xp
+    on refresh_tokens (expires_at);
+
+create index if not exists idx6rduaswabyqkr6ann9cx59i0n
+    on revoked_tokens (revoked_at);
+
+create index if not exists idx4ofmhwy0wmfm5ugokccm8yema
+    on revoked_tokens (expires_at);
+
+create index if not exists idxa2a4dc7jp5dir8sn5fuksp9bb
+    on topics (name, id);
+
+create index if not exists idx4j8e97kbiqtf5le1a5g63hhwc
+    on users (role, id);
@@ -0,0 +1,47 @@
+-- Índices para as consultas dos repositórios. Colunas que já abrem uma
+-- restrição única não ganham outro índice: answers.user_id (user_id,
+-- question_id), options.question_id (question_id, assertion), units.clan_id
+-- (clan_id, name), scores.user_id (user_id, clan_id) e
+-- daily_scores.user_id (user_id, clan_id, day). O QueryPlanTests falha se
+-- uma consulta nova precisar de uma leitura sequencial de tabela grande.
+
+-- Chaves estrangeiras: respostas de uma alternativa (respostas e distribuição
+-- de uma quest, recontagem) e de uma quest (exclusão da quest).
+create index answers_option_id_idx on answers (option_id) include (user_id);
+create index answers_question_id_idx on answers (question_id);
+
+-- Quests de uma unidade (já em ordem de ID), por tópico e por enunciado
+-- (carga inicial do catálogo).
+create index questions_unit_id_idx on questions (unit_id, id);
+create index questions_topics_topic_idx on questions_topics (topic, question);
+create index questions_statement_idx on questions (statement);
+
+-- Clãs de um dono e de um integrante.
+create index clans_owner_id_idx on clans (owner_id, id);
+create index clans_integrations_integrant_idx on clans_integrations (integrant, clan);
+
+-- Tokens de renovação de um usuário (exclusão em cascata do usuário).
+create index refresh_tokens_user_id_idx on refresh_tokens (user_id);
+
+-- Pontuação: respostas corretas desde um instante (agregação diária) e o
+-- subconjunto das alternativas corretas, com as colunas das junções, para que
+-- as agregações leiam só os índices.
+create index answers_timestamp_idx on answers (timestamp) include (option_id, user_id);
+create index options_correct_idx on options (id) include (question_id) where correct;
+
+-- Rankings: pontos de todos os usuários de um clã e do ranking global, e
+-- somas por janela de dias, global e por clã, sem ler as tabelas. A
+-- restrição (user_id, clan_id) não impede duas linhas globais (clan_id nulo)
+-- do mesmo usuário, então o índice parcial é único e é o alvo do upsert da
+-- pontuação global; duplicatas gravadas antes dele são somadas na mais antiga.
+update scores s set points = d.points
+from (select min(id) as id, sum(points) as points from scores
+      where clan_id is null group by user_id having count(*) > 1) d
+where s.id = d.id;
+delete from scores s using scores k
+where s.clan_id is null and k.clan_id is null and s.user_id = k.user_id and s.id > k.id;
+create index scores_clan_id_idx on scores (clan_id) include (user_id, points);
+create unique index scores_global_idx on scores (user_id) include (points) where clan_id is null;
+create index daily_scores_clan_id_day_idx on daily_scores (clan_id, day) include (user_id, points);
+create index daily_scores_day_idx on daily_scores (day) include (user_id, clan_id, points);
+drop index idxksgv5g03darwwdiy1aepexh2o;
@@ -0,0 +1,6 @@
+-- Cada resposta idempotente guarda o SHA-256 do corpo da requisição que a
+-- gerou, para recusar a mesma chave com outro corpo. As respostas guardadas
+-- antes não têm o hash e são descartadas: clientes que as repetirem terão a
+-- requisição executada de novo, como após a expiração.
+delete from idempotent_responses;
+alter table idempotent_responses add column request_hash varchar(64) not null;
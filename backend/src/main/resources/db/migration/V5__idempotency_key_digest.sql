@@ -0,0 +1,6 @@
+-- A chave das respostas idempotentes passa a ser o SHA-256, em hexadecimal,
+-- do usuário, do endpoint e do cabeçalho Idempotency-Key, que juntos podiam
+-- passar do tamanho da coluna. As respostas guardadas com a chave anterior
+-- não seriam mais encontradas e são descartadas, como após a expiração.
+delete from idempotent_responses;
+alter table idempotent_responses alter column idempotency_key type varchar(64);
@@ -0,0 +1,177 @@
+package com.media.noesis.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.media.noesis.converters.AnswerConverter;
+import com.media.noesis.converters.AnswerConverterImpl;
+import com.media.noesis.converters.ClanConverter;
+import com.media.noesis.converters.ClanConverterImpl;
+import com.media.noesis.converters.OptionConverterImpl;
+import com.media.noesis.converters.QuestionConverter;
+import com.media.noesis.converters.QuestionConverterImpl;
+import com.media.noesis.converters.TopicConverter;
+import com.media.noesis.converters.UnitConverter;
+import com.media.noesis.converters.UnitConverterImpl;
+import com.media.noesis.converters.UserConverterImpl;
+import com.media.noesis.dto.AnswerDto;
+import com.media.noesis.dto.ClanDto;
+import com.media.noesis.dto.QuestionDto;
+import com.media.noesis.dto.UnitDto;
+import com.media.noesis.entities.Answer;
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.Option;
+import com.media.noesis.entities.Question;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.entities.Unit;
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Level;
+import com.media.noesis.enums.Role;
+
+/**
+ * Compara o custo de converter uma entidade em DTO com o ModelMapper
+ * (reflexão, usado antes) e com os conversores gerados pelo MapStruct. A taxa
+ * de alocação por conversão aparece em {@code gc.alloc.rate.norm}, com o
+ * profiler {@code -prof gc} (já incluído pelo {@link #main}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private ClanConverter clanConverter;
+    private UnitConverter unitConverter;
+    private QuestionConverter questionConverter;
+    private AnswerConverter answerConverter;
+
+    private Clan clan;
+    private Unit unit;
+    private Question question;
+    private Answer answer;
+
+    @Setup
+    public void setup() {
+        // Mesma configuração do ModelMapper que a aplicação registrava.
+        modelMapper = new ModelMapper();
+        modelMapper.addConverter(context -> context.getSource().getName(), Topic.class, String.class);
+
+        final var optionConverter = new OptionConverterImpl();
+        clanConverter = new ClanConverterImpl(new UserConverterImpl());
+        unitConverter = new UnitConverterImpl();
+        questionConverter = new QuestionConverterImpl(optionConverter, new TopicConverter(null));
+        answerConverter = new AnswerConverterImpl();
+
+        final var owner = new User()
+                .setId(1)
+                .setName("Mestre")
+                .setEmail("mestre@noesis.com")
+                .setAvatarId(3)
+                .setRole(Role.TEACHER);
+        clan = new Clan()
+                .setId(1)
+                .setOwner(owner)
+                .setName("Algoritmos")
+                .setJoinCode("ALG-2025");
+        unit = new Unit()
+                .setId(1)
+                .setClan(clan)
+                .setName("Ordenação");
+
+        final List<Option> options = new ArrayList<>();
+        question = new Question()
+                .setId(1)
+                .setAuthor(owner)
+                .setUnit(unit)
+                .setLevel(Level.values()[0])
+                .setStatement("Qual é a complexidade do merge sort no pior caso?")
+                .setTopics(List.of(new Topic().setId(1).setName("ordenação"), new Topic().setId(2).setName("complexidade")))
+                .setOptions(options);
+        for (int i = 0; i < 4; i++) {
+            options.add(new Option()
+                    .setId(i + 1)
+                    .setQuestion(question)
+                    .setCorrect(i == 0)
+                    .setAssertion("Alternativa " + i)
+                    .setFeedback("Feedback " + i));
+        }
+
+        answer = new Answer()
+                .setId(1)
+                .setUser(owner)
+                .setOption(options.get(0))
+                .setQuestion(question)
+                .setTimestamp(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public ClanDto clanModelMapper() {
+        return modelMapper.map(clan, ClanDto.class);
+    }
+
+    @Benchmark
+    public ClanDto clanMapStruct() {
+        return clanConverter.toDto(clan);
+    }
+
+    @Benchmark
+    public UnitDto unitModelMapper() {
+        return modelMapper.map(unit, UnitDto.class);
+    }
+
+    @Benchmark
+    public UnitDto unitMapStruct() {
+        return unitConverter.toDto(unit);
+    }
+
+    @Benchmark
+    public QuestionDto questionModelMapper() {
+        return modelMapper.map(question, QuestionDto.class);
+    }
+
+    @Benchmark
+    public QuestionDto questionMapStruct() {
+        return questionConverter.toDto(question);
+    }
+
+    @Benchmark
+    public AnswerDto answerModelMapper() {
+        return modelMapper.map(answer, AnswerDto.class)
+                .setCorrect(answer.getOption().isCorrect());
+    }
+
+    @Benchmark
+    public AnswerDto answerMapStruct() {
+        return answerConverter.toDto(answer);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConverterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.media.noesis.benchmarks;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Role;
+import com.media.noesis.services.TokenService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Compara o custo da verificação do token feita pelo filtro de autenticação a
+ * cada requisição: o caminho antigo (chave e parser recriados e três parses
+ * por requisição), um único parse com chave e parser reaproveitados e o
+ * {@link TokenService#verify(String)} com as claims já em cache. A busca do
+ * usuário no banco, comum a todos, fica de fora. Também mede a emissão de um
+ * token, feita a cada login e refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "bm9lc2lzLWJlbmNobWFyay1zZWNyZXQta2V5LXdpdGgtMjU2LWJpdHMtb3ItbW9yZQ==";
+    private static final String EMAIL = "aluno@noesis.com";
+
+    private TokenService tokenService;
+    private JwtParser parser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenService, "accessTokenTtlMinutes", 15L);
+        ReflectionTestUtils.setField(tokenService, "claimsCacheSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(tokenService, "init");
+
+        parser = Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build();
+        user = new User()
+                .setId(1)
+                .setEmail(EMAIL)
+                .setRole(Role.STUDENT);
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenService.generateToken(user);
+    }
+
+    /**
+     * Reproduz o filtro anterior: {@code extractUsername} seguido de
+     * {@code isTokenValid}, que extraía o usuário e a expiração separadamente.
+     */
+    @Benchmark
+    public boolean legacy() {
+        final String username = legacyClaims().getSubject();
+        return legacyClaims().getSubject().equals(username) && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Optional<Claims> cached() {
+        return tokenService.verify(token);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.media.noesis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.media.noesis.dto.UserWithScoreDto;
+import com.media.noesis.utils.Leaderboard;
+
+/**
+ * Compara a paginação do ranking pelo caminho antigo (ordenar todos os alunos
+ * e aplicar {@code subList}) com o {@link Leaderboard} em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "10000", "100000", "1000000" })
+    private int students;
+
+    private List<UserWithScoreDto> ranking;
+    private Leaderboard leaderboard;
+    private long offset;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        ranking = new ArrayList<>(students);
+        final Map<Long, Long> scores = new HashMap<>();
+
+        for (long id = 1; id <= students; id++) {
+            final long score = random.nextInt(500);
+            final var dto = new UserWithScoreDto();
+            dto.setId(id);
+            ranking.add(dto.setScore(score));
+            scores.put(id, score);
+        }
+
+        leaderboard = new Leaderboard(scores);
+        offset = students / 2;
+    }
+
+    @Benchmark
+    public List<UserWithScoreDto> sortThenSubList() {
+        final var sorted = ranking.stream()
+                .sorted((a, b) -> Long.compare(b.getScore(), a.getScore()))
+                .toList();
+        final int start = (int) offset;
+        return sorted.subList(start, Math.min(start + PAGE_SIZE, sorted.size()));
+    }
+
+    @Benchmark
+    public List<Leaderboard.Entry> leaderboardRange() {
+        return leaderboard.range(offset, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void leaderboardIncrement() {
+        leaderboard.increment(1 + random.nextInt(students), 1);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LeaderboardBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.media.noesis.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+
+import com.media.noesis.entities.Answer;
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.DailyScore;
+import com.media.noesis.entities.IdempotentResponse;
+import com.media.noesis.entities.Option;
+import com.media.noesis.entities.Question;
+import com.media.noesis.entities.RefreshToken;
+import com.media.noesis.entities.RevokedToken;
+import com.media.noesis.entities.Score;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.entities.Unit;
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Role;
+
+/**
+ * Mede a gravação de 10 mil quests com 4 alternativas cada pelo Hibernate,
+ * com os IDs gerados por {@code IDENTITY} (como antes) e por sequências com
+ * lotes JDBC, opcionalmente com {@code reWriteBatchedInserts} no driver. Cada
+ * execução é a gravação completa; as entidades são enviadas e descartadas da
+ * sessão a cada 50 quests, como numa importação.
+ *
+ * <p>
+ * Usa o PostgreSQL indicado por {@code DATABASE_HOST}, {@code DATABASE_PORT},
+ * {@code DATABASE_NAME}, {@code DATABASE_USER} e {@code DATABASE_PASSWORD}
+ * (as mesmas variáveis da aplicação), num schema próprio que é apagado ao
+ * final.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QuestionInsertBenchmark {
+
+    private static final int QUESTIONS = 10_000;
+    private static final int OPTIONS = 4;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String SCHEMA = "noesis_benchmark";
+
+    /**
+     * Mapeamento anterior dos IDs de quests e alternativas.
+     */
+    private static final String IDENTITY_MAPPING = """
+            <entity-mappings xmlns="https://jakarta.ee/xml/ns/persistence/orm" version="3.1">
+                <entity class="com.media.noesis.entities.Question">
+                    <attributes><id name="id"><generated-value strategy="IDENTITY"/></id></attributes>
+                </entity>
+                <entity class="com.media.noesis.entities.Option">
+                    <attributes><id name="id"><generated-value strategy="IDENTITY"/></id></attributes>
+                </entity>
+            </entity-mappings>
+            """;
+
+    @Param({ "identity", "sequence", "sequence-rewrite" })
+    private String ids;
+
+    private SessionFactory sessionFactory;
+    private User author;
+    private Unit unit;
+
+    @Setup
+    public void setup() {
+        final var configuration = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:postgresql://%s:%s/%s%s".formatted(
+                        env("DATABASE_HOST"), env("DATABASE_PORT"), env("DATABASE_NAME"),
+                        "sequence-rewrite".equals(ids) ? "?reWriteBatchedInserts=true" : ""))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, env("DATABASE_USER"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, env("DATABASE_PASSWORD"))
+                .setProperty(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+                .setProperty(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, true)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .setProperty(AvailableSettings.ORDER_INSERTS, true)
+                .setProperty(AvailableSettings.ORDER_UPDATES, true)
+                // Só a geração de IDs e os lotes; o cache de segundo nível fica de fora.
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        // Mesmos nomes de tabelas e colunas que o Spring Boot usa na aplicação.
+        configuration.setImplicitNamingStrategy(new SpringImplicitNamingStrategy());
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        for (final var entity : new Class<?>[] { User.class, Clan.class, Unit.class, Topic.class, Question.class,
+                Option.class, Answer.class, Score.class, DailyScore.class, RefreshToken.class, RevokedToken.class,
+                IdempotentResponse.class }) {
+            configuration.addAnnotatedClass(entity);
+        }
+        if ("identity".equals(ids)) {
+            configuration.addInputStream(new ByteArrayInputStream(IDENTITY_MAPPING.getBytes(StandardCharsets.UTF_8)));
+        }
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            author = new User()
+                    .setName("Mestre")
+                    .setEmail("benchmark@noesis.com")
+                    .setPassword("-")
+                    .setAvatarId(1)
+                    .setRole(Role.TEACHER);
+            session.persist(author);
+            final var clan = new Clan()
+                    .setOwner(author)
+                    .setName("Benchmark")
+                    .setJoinCode("BENCHMARK");
+            session.persist(clan);
+            unit = new Unit()
+                    .setClan(clan)
+                    .setName("Importação");
+            session.persist(unit);
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        sessionFactory.inTransaction(session -> session
+                .createNativeMutationQuery("truncate table " + SCHEMA + ".options, " + SCHEMA + ".questions cascade")
+                .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insertQuestions() {
+        sessionFactory.inTransaction(session -> {
+            final var author = session.getReference(User.class, this.author.getId());
+            final var unit = session.getReference(Unit.class, this.unit.getId());
+
+            for (int q = 0; q < QUESTIONS; q++) {
+                final var question = new Question()
+                        .setAuthor(author)
+                        .setUnit(unit)
+                        .setLevel(com.media.noesis.enums.Level.MEDIUM)
+                        .setStatement("Quest " + q);
+                final var options = new ArrayList<Option>(OPTIONS);
+                for (int o = 0; o < OPTIONS; o++) {
+                    options.add(new Option()
+                            .setQuestion(question)
+                            .setCorrect(o == 0)
+                            .setAssertion("Alternativa " + o));
+                }
+                session.persist(question.setOptions(options));
+
+                if ((q + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    private static String env(final String name) {
+        final var value = System.getenv(name);
+        if (value == null) {
+            throw new IllegalStateException("Defina " + name + " para executar este benchmark.");
+        }
+        return value;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuestionInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.media.noesis.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.events.AnswerRecordedEvent;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.repositories.DailyScoreRepository;
+import com.media.noesis.repositories.ScoreRepository;
+import com.media.noesis.services.ScoreService;
+
+/**
+ * Mede a agregação de um lote de respostas em {@link ScoreService#record}
+ * (um upsert por usuário e clã, mais os pontos diários). O JDBC e os
+ * repositórios são substituídos por stubs que confirmam toda atualização, de
+ * modo que apenas o trabalho em memória é medido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreAggregationBenchmark {
+
+    private static final int STUDENTS = 500;
+    private static final int CLANS = 20;
+
+    @Param({ "100", "10000" })
+    private int batchSize;
+
+    private ScoreService scoreService;
+    private List<AnswerRecordedEvent> batch;
+
+    @Setup
+    public void setup() {
+        scoreService = new ScoreService(stub(ScoreRepository.class), stub(AnswerRepository.class),
+                stub(DailyScoreRepository.class), new JdbcTemplate() {
+
+                    @Override
+                    public int update(final String sql, final Object... args) {
+                        return 1;
+                    }
+
+                }, new TransactionTemplate(), event -> {
+                });
+
+        final var random = new SplittableRandom(42);
+        final var now = LocalDateTime.now();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new AnswerRecordedEvent(1 + random.nextInt(STUDENTS), 1 + random.nextInt(CLANS),
+                    1 + random.nextInt(1000), 1 + random.nextInt(4000), random.nextBoolean(),
+                    now.minusMinutes(random.nextInt(60 * 48))));
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        scoreService.record(batch);
+    }
+
+    /**
+     * Stub cujos métodos que retornam {@code int} (as atualizações) informam
+     * uma linha alterada; os demais retornam {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> method.getReturnType() == int.class ? 1 : null);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScoreAggregationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.media.noesis.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Aplica as migrações a um schema criado pelo código anterior a elas
+ * ({@code db/pre-series.sql}, como o {@code ddl-auto: update} o deixava) e
+ * compara o resultado, no catálogo do PostgreSQL, com o schema criado do zero
+ * pelas mesmas migrações. Os dois schemas são apagados ao final.
+ */
+@SpringBootTest
+class MigrationTests {
+
+    private static final String LEGACY = "noesis_migration_legacy";
+    private static final String FRESH = "noesis_migration_fresh";
+
+    /**
+     * Colunas, restrições, índices e sequências de um schema, sem o nome dele.
+     */
+    private static final String DESCRIBE = """
+            select 'column ' || c.relname || '.' || a.attname || ' ' || format_type(a.atttypid, a.atttypmod)
+                || case when a.attnotnull then ' not null' else '' end
+                || coalesce(' default ' || pg_get_expr(d.adbin, d.adrelid), '')
+                || case when a.attidentity <> '' then ' identity' else '' end
+            from pg_attribute a
+                join pg_class c on c.oid = a.attrelid
+                left join pg_attrdef d on d.adrelid = a.attrelid and d.adnum = a.attnum
+            where c.relnamespace = ?::regnamespace and c.relkind = 'r' and c.relname <> 'flyway_schema_history'
+                and a.attnum > 0 and not a.attisdropped
+            union all
+            select 'constraint ' || c.relname || ' ' || k.conname || ' ' || pg_get_constraintdef(k.oid)
+            from pg_constraint k join pg_class c on c.oid = k.conrelid
+            where c.relnamespace = ?::regnamespace and c.relname <> 'flyway_schema_history'
+            union all
+            select 'index ' || indexname || ' ' || indexdef
+            from pg_indexes
+            where schemaname = ? and tablename <> 'flyway_schema_history'
+            union all
+            select 'sequence ' || sequencename || ' ' || increment_by
+            from pg_sequences
+            where schemaname = ?
+            order by 1""";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("drop schema if exists " + LEGACY + " cascade");
+        jdbcTemplate.execute("drop schema if exists " + FRESH + " cascade");
+    }
+
+    @Test
+    void upgradesPreMigrationSchema() throws SQLException {
+        jdbcTemplate.execute("create schema " + LEGACY);
+        try (var connection = dataSource.getConnection()) {
+            connection.setSchema(LEGACY);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/pre-series.sql"));
+        }
+
+        migrate(LEGACY);
+        migrate(FRESH);
+
+        assertEquals(describe(FRESH), describe(LEGACY));
+
+        // Só a primeira resposta do usuário a cada quest recebe a quest.
+        assertEquals(Arrays.asList(1L, null, 2L), jdbcTemplate.queryForList(
+                "select question_id from " + LEGACY + ".answers order by id", Long.class));
+        assertEquals(List.of(1L, 1L, 0L, 1L), jdbcTemplate.queryForList(
+                "select answer_count from " + LEGACY + ".options order by id", Long.class));
+        assertEquals(List.of(0, 0), jdbcTemplate.queryForList(
+                "select token_version from " + LEGACY + ".users order by id", Integer.class));
+
+        // Os próximos IDs continuam depois dos existentes.
+        final long next = jdbcTemplate.queryForObject("select nextval('" + LEGACY + ".answers_id_seq')", Long.class);
+        assertTrue(next > 3, () -> "Próximo ID de resposta: " + next);
+    }
+
+    private void migrate(final String schema) {
+        Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .schemas(schema)
+                .defaultSchema(schema)
+                .load()
+                .migrate();
+    }
+
+    private List<String> describe(final String schema) {
+        return jdbcTemplate.queryForList(DESCRIBE, String.class, schema, schema, schema, schema).stream()
+                .map(line -> line.replace(schema + ".", ""))
+                .toList();
+    }
+
+}
@@ -0,0 +1,331 @@
+package com.media.noesis.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.media.noesis.utils.StatementCounter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Executa cada consulta declarada nos repositórios, captura o SQL gerado e
+ * confere o plano com {@code EXPLAIN}: nenhuma consulta pode ler por inteiro
+ * (leitura sequencial, ou de um índice sem condição sobre a primeira coluna)
+ * uma tabela com mais de {@value #MAX_FULL_SCAN_ROWS} linhas. As tabelas
+ * recebem {@value #ROWS} linhas de teste antes, e tudo é desfeito ao final.
+ *
+ * <p>
+ * O planejador monta planos genéricos, sem leituras sequenciais e só com
+ * junções por laço aninhado: uma leitura completa que sobra no plano é um
+ * filtro ou uma junção sem índice que a atenda, e não uma escolha por custo
+ * com os dados do momento.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.media.noesis.utils.StatementCounter")
+class QueryPlanTests {
+
+    private static final int ROWS = 2_000;
+    private static final long MAX_FULL_SCAN_ROWS = 1_000;
+
+    /**
+     * Consultas que leem tabelas inteiras de propósito.
+     */
+    private static final Set<String> FULL_SCANS = Set.of(
+            // Reconciliação periódica das pontuações, sobre todas as respostas.
+            "AnswerRepository.countCorrectAnswersByUserAndClan",
+            // Carga dos rankings em memória, listagens completas e exportação.
+            "ClanRepository.findAllMemberships",
+            "OptionRepository.findAllSummaries",
+            "UnitRepository.findAllSummaries",
+            "UserRepository.streamExport",
+            // Um terço das quests por nível; não compensa um índice.
+            "QuestionRepository.findByLevel");
+
+    private static final List<String> SEED = List.of(
+            """
+                    insert into users (id, avatar_id, token_version, email, name, password, role)
+                    select -g, 1, 0, 'explain-' || g || '@noesis.com', 'Usuário', '-',
+                        case when g % 2 = 0 then 'TEACHER' else 'STUDENT' end
+                    from generate_series(1, ?) g""",
+            """
+                    insert into clans (id, owner_id, join_code, name)
+                    select -g, -g, 'EXPLAIN-' || g, 'Clã' from generate_series(1, ?) g""",
+            """
+                    insert into clans_integrations (clan, integrant)
+                    select -g, -g from generate_series(1, ?) g""",
+            """
+                    insert into units (id, clan_id, name)
+                    select -g, -g, 'Unidade' from generate_series(1, ?) g""",
+            """
+                    insert into topics (id, name)
+                    select -g, 'explain-' || g from generate_series(1, ?) g""",
+            """
+                    insert into questions (id, author_id, unit_id, level, statement)
+                    select -g, -g, -g, 'EASY', 'Quest ' || g from generate_series(1, ?) g""",
+            """
+                    insert into questions_topics (question, topic)
+                    select -g, -g from generate_series(1, ?) g""",
+            """
+                    insert into options (id, question_id, correct, answer_count, assertion)
+                    select -g, -g, g % 2 = 0, 0, 'Alternativa' from generate_series(1, ?) g""",
+            """
+                    insert into answers (id, option_id, question_id, user_id, timestamp)
+                    select -g, -g, -g, -g, localtimestamp from generate_series(1, ?) g""",
+            """
+                    insert into scores (id, user_id, clan_id, points)
+                    select -g, -g, case when g % 2 = 0 then -g end, g from generate_series(1, ?) g""",
+            """
+                    insert into daily_scores (id, user_id, clan_id, day, points)
+                    select -g, -g, -g, current_date - g % 30, g from generate_series(1, ?) g""",
+            """
+                    insert into refresh_tokens (id, user_id, token_version, created_at, expires_at,
+                        access_token_id, family_id, token_hash)
+                    select -g, -g, 0, localtimestamp, localtimestamp, 'explain', 'explain-' || g, 'explain-' || g
+                    from generate_series(1, ?) g""",
+            """
+                    insert into revoked_tokens (token_id, revoked_at, expires_at)
+                    select 'explain-' || g, localtimestamp, localtimestamp from generate_series(1, ?) g""",
+            """
+                    insert into idempotent_responses (idempotency_key, request_hash, status, created_at)
+                    select 'explain-' || g, md5(g::text), 200, localtimestamp from generate_series(1, ?) g""");
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void repositoryQueriesDoNotScanLargeTables() {
+        final var failures = new ArrayList<String>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                SEED.forEach(sql -> jdbcTemplate.update(sql, ROWS));
+                final var rows = tableRows();
+                jdbcTemplate.execute("set local enable_seqscan = off");
+                jdbcTemplate.execute("set local enable_hashjoin = off");
+                jdbcTemplate.execute("set local enable_mergejoin = off");
+                jdbcTemplate.execute("set local plan_cache_mode = force_generic_plan");
+                final var indexes = indexes();
+
+                for (final var method : queryMethods()) {
+                    final var name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                    for (final var sql : statements(method)) {
+                        fullScans(explain(sql), rows, indexes).forEach(table -> {
+                            if (!FULL_SCANS.contains(name)) {
+                                failures.add("%s lê a tabela %s inteira (%d linhas):%n%s"
+                                        .formatted(name, table, rows.get(table), sql));
+                            }
+                        });
+                    }
+                }
+            });
+        } finally {
+            // Entidades lidas das linhas de teste não podem sobrar no cache de segundo nível.
+            entityManagerFactory.getCache().evictAll();
+        }
+
+        assertTrue(failures.isEmpty(), () -> String.join("\n\n", failures));
+    }
+
+    private Map<String, Long> tableRows() {
+        final var rows = new HashMap<String, Long>();
+        jdbcTemplate.queryForList("""
+                select table_name from information_schema.tables
+                where table_schema = current_schema() and table_type = 'BASE TABLE'""", String.class)
+                .forEach(table -> rows.put(table,
+                        jdbcTemplate.queryForObject("select count(*) from \"" + table + "\"", Long.class)));
+        return rows;
+    }
+
+    /**
+     * Métodos de consulta declarados nas interfaces dos repositórios da
+     * aplicação (os herdados do Spring Data usam a chave primária).
+     */
+    private List<Method> queryMethods() {
+        return context.getBeansWithAnnotation(Repository.class).values().stream()
+                .flatMap(bean -> Arrays.stream(bean.getClass().getInterfaces()))
+                .filter(type -> type.getPackage().equals(QueryPlanTests.class.getPackage()))
+                .distinct()
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing((Method method) -> method.getDeclaringClass().getSimpleName())
+                        .thenComparing(Method::getName)
+                        .thenComparing(Method::getParameterCount))
+                .toList();
+    }
+
+    /**
+     * Executa o método com argumentos quaisquer e retorna o SQL que ele
+     * preparou.
+     */
+    private Set<String> statements(final Method method) {
+        final var repository = context.getBean(method.getDeclaringClass());
+        final var arguments = Arrays.stream(method.getParameterTypes()).map(QueryPlanTests::argument).toArray();
+
+        StatementCounter.clear();
+        try {
+            if (method.invoke(repository, arguments) instanceof Stream<?> stream) {
+                stream.close();
+            }
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Falha ao executar " + method, e);
+        }
+        return new LinkedHashSet<>(StatementCounter.statements());
+    }
+
+    private static Object argument(final Class<?> type) {
+        if (type == long.class || type == Long.class) {
+            return 0L;
+        }
+        if (type == int.class || type == Integer.class) {
+            return 0;
+        }
+        if (type == String.class) {
+            return "explain";
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Limit.class) {
+            return Limit.of(1);
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 1);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(0L);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("Sem argumento de teste para " + type);
+    }
+
+    /**
+     * Plano genérico da instrução, sem executá-la: os parâmetros JDBC viram
+     * {@code $1}, {@code $2}, ... de uma instrução preparada, e o plano não
+     * depende dos valores passados a ela.
+     */
+    private JsonNode explain(final String sql) {
+        final var numbered = new StringBuilder();
+        var parameters = 0;
+        var quoted = false;
+        for (final var c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        jdbcTemplate.execute("prepare explained as " + numbered);
+        try {
+            final var plan = jdbcTemplate.queryForObject("explain (format json) execute explained"
+                    + (parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "null")) + ")"),
+                    String.class);
+            return objectMapper.readTree(plan).get(0).get("Plan");
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Plano inválido para " + sql, e);
+        } finally {
+            jdbcTemplate.execute("deallocate explained");
+        }
+    }
+
+    /**
+     * Índice do plano: a tabela, a primeira coluna e se é parcial.
+     */
+    private record Index(String table, String leadingColumn, boolean partial) {
+    }
+
+    private Map<String, Index> indexes() {
+        final var indexes = new HashMap<String, Index>();
+        jdbcTemplate.query("""
+                select i.relname as name, t.relname as table_name, a.attname as leading_column,
+                    x.indpred is not null as partial
+                from pg_index x
+                join pg_class i on i.oid = x.indexrelid
+                join pg_class t on t.oid = x.indrelid
+                join pg_attribute a on a.attrelid = t.oid and a.attnum = x.indkey[0]
+                where t.relnamespace = current_schema()::regnamespace""",
+                (RowCallbackHandler) result -> indexes.put(result.getString("name"), new Index(
+                        result.getString("table_name"), result.getString("leading_column"),
+                        result.getBoolean("partial"))));
+        return indexes;
+    }
+
+    /**
+     * Tabelas grandes lidas por inteiro em algum nó do plano: leituras
+     * sequenciais e leituras de índice sem condição sobre a primeira coluna
+     * (o índice inteiro é percorrido). Ler todo um índice parcial conta como
+     * leitura só das linhas do predicado.
+     */
+    private static List<String> fullScans(final JsonNode node, final Map<String, Long> rows,
+            final Map<String, Index> indexes) {
+        final var tables = new ArrayList<String>();
+        final var type = node.path("Node Type").asText();
+        String table = null;
+        if ("Seq Scan".equals(type)) {
+            table = node.path("Relation Name").asText();
+        } else if (node.has("Index Name")) {
+            final var index = indexes.get(node.path("Index Name").asText());
+            final var condition = node.path("Index Cond").asText();
+            if (index != null && !index.partial()
+                    && !Pattern.compile("\\b" + index.leadingColumn() + "\\b").matcher(condition).find()) {
+                table = index.table();
+            }
+        }
+        if (table != null && rows.getOrDefault(table, 0L) > MAX_FULL_SCAN_ROWS) {
+            tables.add(table);
+        }
+        node.path("Plans").forEach(child -> tables.addAll(fullScans(child, rows, indexes)));
+        return tables;
+    }
+
+}
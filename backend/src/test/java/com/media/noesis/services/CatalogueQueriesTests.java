@@ -0,0 +1,126 @@
+package com.media.noesis.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.entities.Unit;
+import com.media.noesis.entities.User;
+import com.media.noesis.utils.Fixtures;
+import com.media.noesis.utils.StatementCounter;
+
+/**
+ * Orçamento de instruções SQL das listagens do catálogo de um clã. Cada
+ * endpoint é chamado para um clã pequeno e para um clã com 20 unidades e 500
+ * quests: o teste falha se alguma instrução se repetir (N+1), se o orçamento
+ * for ultrapassado ou se o número de instruções depender do tamanho do clã.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.media.noesis.utils.StatementCounter")
+@AutoConfigureMockMvc
+@Import(Fixtures.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogueQueriesTests {
+
+    private record Catalogue(Clan clan, Unit unit, Topic topic) {
+
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Fixtures fixtures;
+
+    private String authorization;
+    private Catalogue small;
+    private Catalogue large;
+
+    @BeforeAll
+    void setup() {
+        final long suffix = Fixtures.suffix();
+        final var teacher = transactionTemplate
+                .execute(status -> fixtures.teacher("catalogue-" + suffix + "@noesis.com"));
+
+        small = transactionTemplate.execute(status -> createCatalogue(teacher, suffix + "-p", 1, 1));
+        large = transactionTemplate.execute(status -> createCatalogue(teacher, suffix + "-g", 20, 25));
+
+        authorization = fixtures.authorization(teacher);
+    }
+
+    @AfterAll
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @CsvSource({
+            "clan, /v1/core/clans/{id}/units, 2",
+            "clan, /v1/core/clans/{id}/questions, 4",
+            "clan, /v1/core/clans/{id}/topics, 2",
+            "unit, /v1/core/units/{id}/questions, 4",
+    })
+    void endpointStaysWithinBudget(final String resource, final String path, final int budget) throws Throwable {
+        final int smallCount = StatementCounter.assertWithinBudget(path, budget, () -> read(path, id(small, resource)));
+        final int largeCount = StatementCounter.assertWithinBudget(path, budget, () -> read(path, id(large, resource)));
+
+        assertEquals(smallCount, largeCount, path + ": o número de instruções varia com o tamanho do clã");
+    }
+
+    @Test
+    void topicQuestionsStayWithinBudget() throws Throwable {
+        final int smallCount = StatementCounter.assertWithinBudget("topic", 4,
+                () -> topicService.listQuestions(small.topic().getId()));
+        final int largeCount = StatementCounter.assertWithinBudget("topic", 4,
+                () -> topicService.listQuestions(large.topic().getId()));
+
+        assertEquals(smallCount, largeCount);
+    }
+
+    private void read(final String path, final long id) throws Exception {
+        mockMvc.perform(get(path, id).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+    }
+
+    private static long id(final Catalogue catalogue, final String resource) {
+        return "unit".equals(resource) ? catalogue.unit().getId() : catalogue.clan().getId();
+    }
+
+    private Catalogue createCatalogue(final User teacher, final String suffix, final int units,
+            final int questionsPerUnit) {
+        final var clan = fixtures.clan(teacher, "Catálogo " + suffix, "CAT-" + suffix);
+        final var topic = new Topic().setName("tópico " + suffix);
+
+        Unit unit = null;
+        for (int u = 0; u < units; u++) {
+            unit = fixtures.unit(clan, "Unidade " + u);
+            for (int q = 0; q < questionsPerUnit; q++) {
+                fixtures.question(unit, "Quest " + u + "." + q, 3, topic,
+                        new Topic().setName("extra " + suffix + u + q));
+            }
+        }
+        return new Catalogue(clan, unit, topic);
+    }
+
+}
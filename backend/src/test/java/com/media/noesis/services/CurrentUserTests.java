@@ -0,0 +1,136 @@
+package com.media.noesis.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.dto.UserRequest;
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Role;
+import com.media.noesis.repositories.OptionRepository;
+import com.media.noesis.repositories.UserRepository;
+import com.media.noesis.utils.Fixtures;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Conta as instruções SQL de requisições autenticadas para garantir que o
+ * usuário logado não é buscado no banco quando bastam o ID e o papel.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(Fixtures.class)
+class CurrentUserTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Fixtures fixtures;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String authorization;
+    private long optionId;
+
+    @BeforeEach
+    void setup() {
+        final long suffix = Fixtures.suffix();
+        final var email = "current-user-" + suffix + "@noesis.com";
+        final var request = new UserRequest.Create();
+        request.setName("Aluno");
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setAvatarId(1);
+        request.setRole(Role.STUDENT);
+        userService.create(request);
+
+        final var user = fixtures.track(userRepository.findByEmail(email).orElseThrow());
+
+        authorization = "Bearer " + tokenService.generateToken(user);
+        optionId = transactionTemplate.execute(status -> createOption(suffix));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private long createOption(final long suffix) {
+        final var teacher = fixtures.teacher("current-user-teacher-" + suffix + "@noesis.com");
+        final var clan = fixtures.clan(teacher, "Clã " + suffix, "CURRENT-" + suffix);
+        return fixtures.question(fixtures.unit(clan, "Unidade"), "Quest", 1).getOptions().getFirst().getId();
+    }
+
+    @Test
+    void scoreRequestDoesNotLoadUser() throws Exception {
+        score();
+        statistics.clear();
+
+        score();
+
+        // Apenas existsById e a pontuação global; a versão do token já está em cache.
+        assertEquals(0, userLoads());
+        assertTrue(statistics.getPrepareStatementCount() <= 2, statistics::toString);
+    }
+
+    @Test
+    void chooseDoesNotLoadUser() throws Exception {
+        score();
+
+        // Usuários carregados pelas associações da própria alternativa (autor, dono do clã).
+        statistics.clear();
+        optionRepository.findById(optionId);
+        final long baseline = userLoads();
+
+        statistics.clear();
+        mockMvc.perform(post("/v1/core/options/{id}/choose", optionId).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        assertEquals(baseline, userLoads());
+    }
+
+    private void score() throws Exception {
+        mockMvc.perform(get("/v1/core/users/score").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+    }
+
+    private long userLoads() {
+        final var entity = statistics.getEntityStatistics(User.class.getName());
+        return entity.getLoadCount() + entity.getFetchCount();
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.media.noesis.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.media.noesis.entities.Answer;
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.User;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.utils.Fixtures;
+
+/**
+ * Exportação das respostas de um clã, escrita de forma assíncrona a partir de
+ * um stream do banco.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(Fixtures.class)
+class ExportTests {
+
+    private static final int STUDENTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Fixtures fixtures;
+
+    private User teacher;
+    private User student;
+    private Clan clan;
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate.executeWithoutResult(status -> createContent(Fixtures.suffix()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private void createContent(final long suffix) {
+        teacher = fixtures.teacher("export-" + suffix + "@noesis.com");
+        clan = fixtures.clan(teacher, "Clã " + suffix, "EXPORT-" + suffix, teacher);
+        final var question = fixtures.question(fixtures.unit(clan, "Unidade"), "Qual é a saída de \"print(1, 2)\"?", 1);
+        final var option = question.getOptions().getFirst();
+
+        for (int s = 0; s < STUDENTS; s++) {
+            student = fixtures.student(s == 0 ? "=HYPERLINK(\"x\")" : "Aluno, " + s,
+                    "export-student-" + s + "-" + suffix + "@noesis.com");
+            answerRepository.save(new Answer()
+                    .setUser(student)
+                    .setOption(option)
+                    .setQuestion(question)
+                    .setTimestamp(LocalDateTime.now()));
+        }
+    }
+
+    @Test
+    void exportsAnswersAsNdjson() throws Exception {
+        final var lines = export(teacher, "ndjson", "application/x-ndjson").split("\n");
+
+        assertEquals(STUDENTS, lines.length);
+        final var last = objectMapper.readTree(lines[STUDENTS - 1]);
+        assertEquals(student.getId(), last.get("userId").asLong());
+        assertEquals("Qual é a saída de \"print(1, 2)\"?", last.get("questionStatement").asText());
+        assertEquals(true, last.get("correct").asBoolean());
+    }
+
+    @Test
+    void exportsAnswersAsCsv() throws Exception {
+        final var lines = export(teacher, "csv", "text/csv").split("\r\n");
+
+        assertEquals(STUDENTS + 1, lines.length);
+        assertEquals("id,timestamp,userId,userName,userEmail,questionId,questionStatement,optionId,correct", lines[0]);
+        // Aspas e vírgulas ficam entre aspas; fórmulas são neutralizadas.
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", lines[1].split(",")[3]);
+        assertTrue(lines[2].contains(",\"Aluno, 1\","), lines[2]);
+    }
+
+    @Test
+    void onlyTheOwnerExportsAnswers() throws Exception {
+        mockMvc.perform(get("/v1/core/clans/{id}/answers/export", clan.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(student)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/v1/core/clans/{id}/answers/export?format=xml", clan.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(teacher)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(final User user, final String format, final String mediaType) throws Exception {
+        final var started = mockMvc.perform(get("/v1/core/clans/{id}/answers/export?format=" + format, clan.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(user)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+}
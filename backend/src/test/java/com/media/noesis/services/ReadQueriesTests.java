@@ -0,0 +1,186 @@
+package com.media.noesis.services;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jayway.jsonpath.JsonPath;
+import com.media.noesis.entities.Answer;
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.Question;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.entities.Unit;
+import com.media.noesis.entities.User;
+import com.media.noesis.repositories.AnswerRepository;
+import com.media.noesis.utils.Fixtures;
+import com.media.noesis.utils.StatementCounter;
+
+/**
+ * Conta as instruções SQL das leituras de listagem e de detalhe. O número
+ * deve ser fixo, independente de quantas quests, alternativas e tópicos
+ * existam.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.media.noesis.utils.StatementCounter")
+@AutoConfigureMockMvc
+@Import(Fixtures.class)
+class ReadQueriesTests {
+
+    private static final int UNITS = 2;
+    private static final int QUESTIONS_PER_UNIT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Fixtures fixtures;
+
+    private String authorization;
+    private User teacher;
+    private Clan clan;
+    private Unit unit;
+    private Question question;
+    private Topic topic;
+
+    @BeforeEach
+    void setup() throws Exception {
+        // Uma única transação, para que o tópico compartilhado continue gerenciado.
+        transactionTemplate.executeWithoutResult(status -> createContent(Fixtures.suffix()));
+        authorization = fixtures.authorization(teacher);
+    }
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private void createContent(final long suffix) {
+        teacher = fixtures.teacher("read-queries-" + suffix + "@noesis.com");
+        final var student = fixtures.student("Aluno", "read-queries-student-" + suffix + "@noesis.com");
+        clan = fixtures.clan(teacher, "Clã " + suffix, "READ-" + suffix, teacher);
+
+        topic = new Topic().setName("tópico " + suffix);
+        for (int u = 0; u < UNITS; u++) {
+            unit = fixtures.unit(clan, "Unidade " + u);
+            for (int q = 0; q < QUESTIONS_PER_UNIT; q++) {
+                question = fixtures.question(unit, "Quest " + u + "." + q, 3, topic,
+                        new Topic().setName("extra " + suffix + u + q));
+                topic = question.getTopics().getFirst();
+            }
+        }
+        answerRepository.save(new Answer()
+                .setUser(student)
+                .setOption(question.getOptions().getFirst())
+                .setQuestion(question)
+                .setTimestamp(LocalDateTime.now()));
+    }
+
+    @Test
+    void clanReads() throws Exception {
+        assertStatements(1, "/v1/core/clans");
+        assertStatements(1, "/v1/core/clans/{id}", clan.getId())
+                .andExpect(jsonPath("$.owner.email").value(teacher.getEmail()));
+        assertStatements(2, "/v1/core/clans/{id}/units", clan.getId())
+                .andExpect(jsonPath("$.length()").value(UNITS))
+                .andExpect(jsonPath("$[0].totalQuestions").value(QUESTIONS_PER_UNIT));
+        assertStatements(4, "/v1/core/clans/{id}/questions", clan.getId())
+                .andExpect(jsonPath("$.length()").value(UNITS * QUESTIONS_PER_UNIT))
+                .andExpect(jsonPath("$[0].clanId").value(clan.getId()))
+                .andExpect(jsonPath("$[0].options.length()").value(3))
+                .andExpect(jsonPath("$[0].topics.length()").value(2));
+        assertStatements(2, "/v1/core/clans/{id}/topics", clan.getId())
+                .andExpect(jsonPath("$.length()").value(UNITS * QUESTIONS_PER_UNIT * 2));
+    }
+
+    @Test
+    void unitReads() throws Exception {
+        assertStatements(1, "/v1/core/units/{id}", unit.getId())
+                .andExpect(jsonPath("$.totalQuestions").value(QUESTIONS_PER_UNIT));
+        assertStatements(4, "/v1/core/units/{id}/questions", unit.getId())
+                .andExpect(jsonPath("$.length()").value(QUESTIONS_PER_UNIT));
+    }
+
+    @Test
+    void questionReads() throws Exception {
+        assertStatements(3, "/v1/core/questions");
+        assertStatements(3, "/v1/core/questions/{id}", question.getId())
+                .andExpect(jsonPath("$.options.length()").value(3));
+        assertStatements(3, "/v1/core/questions/author/{id}", teacher.getId())
+                .andExpect(jsonPath("$.items.length()").value(UNITS * QUESTIONS_PER_UNIT))
+                .andExpect(jsonPath("$.next").doesNotExist());
+        assertStatements(2, "/v1/core/questions/{id}/answers", question.getId())
+                .andExpect(jsonPath("$[0].user.name").value("Aluno"));
+    }
+
+    @Test
+    void optionAndUserReads() throws Exception {
+        final long optionId = question.getOptions().getFirst().getId();
+        assertStatements(1, "/v1/core/options/{id}", optionId)
+                .andExpect(jsonPath("$.correct").value(true));
+        assertStatements(1, "/v1/core/users");
+        assertStatements(1, "/v1/core/users/{id}", teacher.getId());
+        assertStatements(1, "/v1/core/users/teachers");
+        assertStatements(1, "/v1/core/users/students");
+        assertStatements(1, "/v1/core/topics");
+        assertStatements(1, "/v1/core/users/managed-clans")
+                .andExpect(jsonPath("$[0].id").value(clan.getId()));
+        assertStatements(1, "/v1/core/users/joined-clans")
+                .andExpect(jsonPath("$[0].id").value(clan.getId()));
+    }
+
+    @Test
+    void cursorPagination() throws Exception {
+        final int size = QUESTIONS_PER_UNIT + 1;
+        final var first = assertStatements(3, "/v1/core/questions/author/{id}?size=" + size, teacher.getId())
+                .andExpect(jsonPath("$.items.length()").value(size))
+                .andExpect(jsonPath("$.next").isString())
+                .andReturn();
+        final String next = JsonPath.read(first.getResponse().getContentAsString(), "$.next");
+
+        // A segunda página começa depois da última quest da primeira, sem repetir nenhuma.
+        assertStatements(3, "/v1/core/questions/author/{id}?size=" + size + "&after=" + next, teacher.getId())
+                .andExpect(jsonPath("$.items.length()").value(UNITS * QUESTIONS_PER_UNIT - size))
+                .andExpect(jsonPath("$.items[0].id").value(greaterThan(JsonPath.<Integer>read(
+                        first.getResponse().getContentAsString(), "$.items[" + (size - 1) + "].id"))))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/v1/core/questions?after=invalido").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions assertStatements(final int expected, final String path, final Object... variables)
+            throws Exception {
+        StatementCounter.clear();
+        final var result = read(path, variables);
+        assertEquals(expected, StatementCounter.statements().size(),
+                () -> path + ": " + String.join("\n", StatementCounter.statements()));
+        return result;
+    }
+
+    private ResultActions read(final String path, final Object... variables) throws Exception {
+        return mockMvc.perform(get(path, variables).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.media.noesis.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.config.CacheRegions;
+import com.media.noesis.dto.ClanRequest;
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.Question;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.QuestionRepository;
+import com.media.noesis.utils.Fixtures;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Leituras do catálogo servidas pelo cache de segundo nível e invalidação
+ * após as escritas feitas pelos serviços.
+ */
+@SpringBootTest
+@Import(Fixtures.class)
+class SecondLevelCacheTests {
+
+    @Autowired
+    private ClanService clanService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private ClanRepository clanRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Fixtures fixtures;
+
+    private Statistics statistics;
+    private long suffix;
+    private Clan clan;
+    private Question question;
+    private Topic topic;
+
+    @BeforeEach
+    void setup() {
+        suffix = Fixtures.suffix();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> createContent());
+    }
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private void createContent() {
+        final var teacher = fixtures.teacher("cache-" + suffix + "@noesis.com");
+        clan = fixtures.clan(teacher, "Clã " + suffix, "CACHE-" + suffix);
+        topic = new Topic().setName("cache " + suffix);
+        question = fixtures.question(fixtures.unit(clan, "Unidade"), "Quest", 1, topic,
+                new Topic().setName("outro " + suffix));
+    }
+
+    @Test
+    void clanIsReadFromTheCacheUntilUpdated() {
+        clanRepository.findById(clan.getId());
+        statistics.clear();
+
+        assertEquals(clan.getName(), clanRepository.findById(clan.getId()).orElseThrow().getName());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(CacheRegions.CLANS).getHitCount());
+
+        final var request = new ClanRequest();
+        request.setName("Renomeado " + suffix);
+        request.setJoinCode(clan.getJoinCode());
+        clanService.update(clan.getId(), request);
+
+        assertEquals(request.getName(), clanRepository.findById(clan.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void joinCodeQueryIsCachedUntilTheTableChanges() {
+        clanRepository.findByJoinCode(clan.getJoinCode());
+        statistics.clear();
+
+        clanRepository.findByJoinCode(clan.getJoinCode());
+        assertEquals(1, statistics.getQueryRegionStatistics(CacheRegions.QUERIES).getHitCount());
+
+        final var request = new ClanRequest();
+        request.setName(clan.getName());
+        request.setJoinCode("NOVO-" + suffix);
+        clanService.update(clan.getId(), request);
+
+        assertTrue(clanRepository.findByJoinCode(clan.getJoinCode()).isEmpty());
+        assertEquals(clan.getId(), clanRepository.findByJoinCode(request.getJoinCode()).orElseThrow().getId());
+    }
+
+    @Test
+    void deletingATopicEvictsTheQuestionTopics() {
+        assertEquals(2, topicNames().size());
+
+        topicService.delete(topic.getId());
+
+        assertEquals(List.of("outro " + suffix), topicNames());
+    }
+
+    private List<String> topicNames() {
+        return transactionTemplate.execute(status -> questionRepository.findById(question.getId()).orElseThrow()
+                .getTopics().stream()
+                .map(Topic::getName)
+                .toList());
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.media.noesis.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.media.noesis.entities.Clan;
+import com.media.noesis.entities.Option;
+import com.media.noesis.entities.Question;
+import com.media.noesis.entities.Topic;
+import com.media.noesis.entities.Unit;
+import com.media.noesis.entities.User;
+import com.media.noesis.enums.Level;
+import com.media.noesis.enums.Role;
+import com.media.noesis.repositories.ClanRepository;
+import com.media.noesis.repositories.QuestionRepository;
+import com.media.noesis.repositories.UnitRepository;
+import com.media.noesis.repositories.UserRepository;
+import com.media.noesis.services.TokenService;
+import com.media.noesis.services.TokenVersionService;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Dados de teste gravados no banco de desenvolvimento. Os usuários criados
+ * pelos testes são registrados e {@link #cleanup()} apaga tudo o que parte
+ * deles: clãs, unidades, quests, alternativas, respostas e pontuações. Use
+ * com {@code @Import(Fixtures.class)}; os métodos de criação devem ser
+ * chamados dentro de uma transação.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class Fixtures {
+
+    /**
+     * Na ordem das chaves estrangeiras, sobre os IDs lidos antes das
+     * exclusões. Os tópicos só são apagados se nenhuma outra quest os usar.
+     */
+    private static final List<String> CLEANUP = List.of(
+            """
+                    delete from answers
+                    where user_id = any(:users) or question_id = any(:questions)
+                        or option_id in (select id from options where question_id = any(:questions))""",
+            "delete from scores where user_id = any(:users) or clan_id = any(:clans)",
+            "delete from daily_scores where user_id = any(:users) or clan_id = any(:clans)",
+            "delete from questions_topics where question = any(:questions)",
+            "delete from options where question_id = any(:questions)",
+            "delete from questions where id = any(:questions)",
+            """
+                    delete from topics t
+                    where t.id = any(:topics) and not exists (select 1 from questions_topics qt where qt.topic = t.id)""",
+            "delete from units where clan_id = any(:clans)",
+            "delete from clans_integrations where clan = any(:clans) or integrant = any(:users)",
+            "delete from clans where id = any(:clans)",
+            "delete from refresh_tokens where user_id = any(:users)",
+            "delete from users where id = any(:users)");
+
+    private final UserRepository userRepository;
+    private final ClanRepository clanRepository;
+    private final UnitRepository unitRepository;
+    private final QuestionRepository questionRepository;
+    private final TokenService tokenService;
+    private final TokenVersionService tokenVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> users = new ArrayList<>();
+
+    /**
+     * Sufixo para nomes, e-mails e códigos únicos entre execuções.
+     */
+    public static long suffix() {
+        return System.nanoTime();
+    }
+
+    public User teacher(final String email) {
+        return user("Mestre", email, Role.TEACHER);
+    }
+
+    public User student(final String name, final String email) {
+        return user(name, email, Role.STUDENT);
+    }
+
+    public Clan clan(final User owner, final String name, final String joinCode, final User... integrants) {
+        return clanRepository.save(new Clan()
+                .setOwner(owner)
+                .setName(name)
+                .setJoinCode(joinCode)
+                .setIntegrants(new ArrayList<>(List.of(integrants))));
+    }
+
+    public Unit unit(final Clan clan, final String name) {
+        return unitRepository.save(new Unit()
+                .setClan(clan)
+                .setName(name));
+    }
+
+    /**
+     * Quest com {@code options} alternativas, das quais só a primeira é
+     * correta.
+     */
+    public Question question(final Unit unit, final String statement, final int options, final Topic... topics) {
+        final var question = new Question()
+                .setAuthor(unit.getClan().getOwner())
+                .setUnit(unit)
+                .setLevel(Level.EASY)
+                .setStatement(statement)
+                .setTopics(new ArrayList<>(List.of(topics)));
+        final var alternatives = new ArrayList<Option>();
+        for (int o = 0; o < options; o++) {
+            alternatives.add(new Option()
+                    .setQuestion(question)
+                    .setCorrect(o == 0)
+                    .setAssertion("Alternativa " + o));
+        }
+        return questionRepository.save(question.setOptions(alternatives));
+    }
+
+    /**
+     * Cabeçalho {@code Authorization} do usuário. Aquece também o cache da
+     * versão do token, consultado na primeira requisição, para que essa
+     * consulta não entre nas contagens de instruções.
+     */
+    public String authorization(final User user) {
+        tokenVersionService.isCurrent(user.getId(), user.getTokenVersion());
+        return "Bearer " + tokenService.generateToken(user);
+    }
+
+    /**
+     * Registra um usuário criado fora destes métodos para a limpeza.
+     */
+    public <T extends User> T track(final T user) {
+        users.add(user.getId());
+        return user;
+    }
+
+    /**
+     * Apaga os dados dos usuários registrados e esvazia o cache de segundo
+     * nível, que não vê as exclusões feitas por SQL.
+     */
+    public void cleanup() {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        final var jdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate.executeWithoutResult(status -> {
+            final var parameters = new MapSqlParameterSource("users", users.toArray(Long[]::new));
+            parameters.addValue("clans", ids(jdbc, "select id from clans where owner_id = any(:users)", parameters));
+            parameters.addValue("questions", ids(jdbc, """
+                    select q.id from questions q
+                    where q.author_id = any(:users)
+                        or q.unit_id in (select u.id from units u where u.clan_id = any(:clans))""", parameters));
+            parameters.addValue("topics",
+                    ids(jdbc, "select topic from questions_topics where question = any(:questions)", parameters));
+
+            CLEANUP.forEach(sql -> jdbc.update(sql, parameters));
+        });
+        users.clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private User user(final String name, final String email, final Role role) {
+        return track(userRepository.save(new User()
+                .setName(name)
+                .setEmail(email)
+                .setPassword("-")
+                .setAvatarId(1)
+                .setRole(role)));
+    }
+
+    private static Long[] ids(final NamedParameterJdbcTemplate jdbc, final String sql,
+            final MapSqlParameterSource parameters) {
+        return jdbc.queryForList(sql, parameters, Long.class).toArray(Long[]::new);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.media.noesis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class LeaderboardTests {
+
+    @Test
+    void ordersByScoreThenUserId() {
+        final var leaderboard = new Leaderboard(Map.of(1L, 5L, 2L, 7L, 3L, 5L));
+        leaderboard.put(4L, 6L);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(2, 7),
+                new Leaderboard.Entry(4, 6),
+                new Leaderboard.Entry(1, 5),
+                new Leaderboard.Entry(3, 5)), leaderboard.range(0, 10));
+        assertEquals(List.of(new Leaderboard.Entry(1, 5)), leaderboard.range(2, 1));
+        assertTrue(leaderboard.range(4, 10).isEmpty());
+    }
+
+    @Test
+    void incrementIgnoresUnknownUsers() {
+        final var leaderboard = new Leaderboard(Map.of(1L, 0L));
+        leaderboard.increment(1, 2);
+        leaderboard.increment(9, 2);
+
+        assertEquals(1, leaderboard.size());
+        assertEquals(2, leaderboard.score(1).getAsLong());
+        assertTrue(leaderboard.score(9).isEmpty());
+    }
+
+    @Test
+    void matchesSortedListAfterRandomUpdates() {
+        final var random = new SplittableRandom(7);
+        final Map<Long, Long> expected = new HashMap<>();
+        for (long id = 0; id < 500; id++) {
+            expected.put(id, (long) random.nextInt(50));
+        }
+        final var leaderboard = new Leaderboard(expected);
+
+        for (int i = 0; i < 5_000; i++) {
+            final long id = random.nextInt(600);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    final long score = random.nextInt(50);
+                    leaderboard.put(id, score);
+                    expected.put(id, score);
+                }
+                case 1 -> {
+                    leaderboard.increment(id, 1);
+                    expected.computeIfPresent(id, (key, score) -> score + 1);
+                }
+                default -> {
+                    leaderboard.remove(id);
+                    expected.remove(id);
+                }
+            }
+        }
+
+        final List<Leaderboard.Entry> sorted = new ArrayList<>();
+        expected.forEach((id, score) -> sorted.add(new Leaderboard.Entry(id, score)));
+        sorted.sort(Comparator.comparingLong(Leaderboard.Entry::score).reversed()
+                .thenComparingLong(Leaderboard.Entry::userId));
+
+        assertEquals(sorted.size(), leaderboard.size());
+        assertEquals(sorted, leaderboard.range(0, sorted.size()));
+        assertEquals(sorted.subList(100, 120), leaderboard.range(100, 20));
+        for (int i = 0; i < sorted.size(); i += 37) {
+            assertEquals(i, leaderboard.rank(sorted.get(i).userId()).getAsLong());
+        }
+        assertTrue(leaderboard.rank(-1).isEmpty());
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.media.noesis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Registra as instruções SQL preparadas pela thread atual, para que os testes
+ * contem as instruções de uma requisição sem interferência das tarefas
+ * agendadas. Ative com
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Instruções preparadas mais de uma vez com o mesmo SQL, com o número de
+     * execuções. É o sinal de um N+1: a mesma consulta repetida por entidade.
+     */
+    public static Map<String, Long> repeated() {
+        return STATEMENTS.get().stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Executa a ação e falha se ela preparar mais instruções que o orçamento
+     * ou repetir alguma instrução. Retorna o número de instruções.
+     */
+    public static int assertWithinBudget(final String description, final int budget, final Executable action)
+            throws Throwable {
+        clear();
+        action.execute();
+
+        final var statements = statements();
+        final var repeated = repeated();
+        assertTrue(repeated.isEmpty(), () -> description + ": instruções repetidas (N+1): " + repeated);
+        assertTrue(statements.size() <= budget, () -> description + ": " + statements.size()
+                + " instruções, acima do orçamento de " + budget + ":\n" + String.join("\n", statements));
+        return statements.size();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.media.noesis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        final var bucket = new TokenBucket(5, Duration.ofSeconds(5), 0);
+
+        for (int i = 4; i >= 0; i--) {
+            final var result = bucket.tryConsume(0);
+            assertTrue(result.allowed());
+            assertEquals(i, result.remaining());
+        }
+
+        final var rejected = bucket.tryConsume(0);
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+        assertEquals(5 * SECOND, rejected.resetNanos());
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        final var bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(SECOND / 2).allowed());
+        assertTrue(bucket.tryConsume(SECOND).allowed());
+        assertFalse(bucket.tryConsume(SECOND).allowed());
+
+        // Depois de um período inteiro parado, o balde volta a ficar cheio.
+        assertEquals(1, bucket.tryConsume(10 * SECOND).remaining());
+    }
+
+}
@@ -0,0 +1,107 @@
+-- Schema criado pelo ddl-auto: update do código anterior às migrações (IDs
+-- IDENTITY, sem pontuações, tokens nem respostas idempotentes; a restrição
+-- única das alternativas nunca chegou a ser criada), com alguns dados.
+
+create table users (
+    avatar_id integer not null,
+    id bigint generated by default as identity,
+    email varchar(255) not null constraint uk6dotkott2kjsp8vw4d0m25fb7 unique,
+    name varchar(255),
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('TEACHER','STUDENT')),
+    primary key (id)
+);
+
+create table clans (
+    id bigint generated by default as identity,
+    owner_id bigint not null,
+    join_code varchar(255) not null constraint uk2q0wg7xx0uk8vvl40xkegtx8q unique,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table clans_integrations (
+    clan bigint not null,
+    integrant bigint not null,
+    constraint uki84h459jbckl5af8obpnr22pr unique (clan, integrant)
+);
+
+create table units (
+    clan_id bigint not null,
+    id bigint generated by default as identity,
+    name varchar(255),
+    primary key (id),
+    constraint uk8u1vvqyr7877rk75ibcotwqf7 unique (clan_id, name)
+);
+
+create table topics (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table questions (
+    author_id bigint not null,
+    id bigint generated by default as identity,
+    unit_id bigint not null,
+    level varchar(255) check (level in ('EASY','MEDIUM','HARD')),
+    statement varchar(255) not null,
+    primary key (id)
+);
+
+create table questions_topics (
+    question bigint not null,
+    topic bigint not null,
+    constraint uk88nyslhx30tr1a7dlqdjcidn9 unique (question, topic)
+);
+
+create table options (
+    correct boolean not null,
+    id bigint generated by default as identity,
+    question_id bigint not null,
+    assertion varchar(255) not null,
+    feedback varchar(255),
+    primary key (id)
+);
+
+create table answers (
+    id bigint generated by default as identity,
+    option_id bigint not null,
+    timestamp timestamp(6),
+    user_id bigint not null,
+    primary key (id)
+);
+
+alter table clans add constraint fkqf4hl6hdtqce6p2mh402xckps foreign key (owner_id) references users;
+alter table clans_integrations add constraint fkcqagy5eve7hmjia5y2ngga557 foreign key (clan) references clans;
+alter table clans_integrations add constraint fkqe1if3fvd7tnw37oy63un67df foreign key (integrant) references users;
+alter table units add constraint fkhchfyuvshyhq9fi8ovmpeitg5 foreign key (clan_id) references clans;
+alter table questions add constraint fkii8pqtr2qjv47ht06bg8vtl9n foreign key (author_id) references users;
+alter table questions add constraint fktb5sxobrat1tuuolkge2qkic8 foreign key (unit_id) references units;
+alter table questions_topics add constraint fk1a1vy1vui905ihm4rjov1788m foreign key (question) references questions;
+alter table questions_topics add constraint fknn04jr7oqno1ra6y137a6j5kk foreign key (topic) references topics;
+alter table options add constraint fk5bmv46so2y5igt9o9n9w4fh6y foreign key (question_id) references questions;
+alter table answers add constraint fkn0s3utny5xipstu14dx3mdmfw foreign key (option_id) references options;
+alter table answers add constraint fk5bp3d5loftq2vjn683ephn75a foreign key (user_id) references users;
+
+insert into users (avatar_id, email, name, password, role) values
+    (1, 'mestre@noesis.com', 'Mestre', '-', 'TEACHER'),
+    (2, 'aluno@noesis.com', 'Aluno', '-', 'STUDENT');
+insert into clans (owner_id, join_code, name) values (1, 'PRE-SERIES', 'Clã');
+insert into clans_integrations (clan, integrant) values (1, 2);
+insert into units (clan_id, name) values (1, 'Unidade');
+insert into topics (name) values ('Tópico');
+insert into questions (author_id, unit_id, level, statement) values
+    (1, 1, 'EASY', 'Quest 1'),
+    (1, 1, 'HARD', 'Quest 2');
+insert into questions_topics (question, topic) values (1, 1), (2, 1);
+insert into options (correct, question_id, assertion) values
+    (true, 1, 'Certa'),
+    (false, 1, 'Errada'),
+    (true, 2, 'Certa'),
+    (false, 2, 'Errada');
+-- A segunda resposta repete a quest 1.
+insert into answers (option_id, timestamp, user_id) values
+    (1, '2025-01-10 10:00', 2),
+    (2, '2025-01-10 10:05', 2),
+    (4, '2025-01-11 09:00', 2);
@@ -205,7 +205,7 @@ export default function QuestChallengePage() {
       console.error("Falha ao submeter a resposta:", error);
       const axiosError = error as AxiosError;
 
-      if (axiosError.response?.status === 401) {
+      if (axiosError.response?.status === 409) {
         toast.error("Você já respondeu a esta quest!", {
           id: "already-answered",
         });
@@ -1,5 +1,6 @@
 "use client";
 import { clearAuthData } from "@/services/api/tokenManager";
+import { logoutUserService } from "@/services/authService";
 import { UserData } from "@/types/authTypes";
 import Link from "next/link";
 import { useRouter } from "next/navigation";
@@ -7,7 +8,8 @@ import { useRouter } from "next/navigation";
 export function Sidebar({ user }: { user: UserData }) {
   const router = useRouter();
 
-  const handleLogout = () => {
+  const handleLogout = async () => {
+    await logoutUserService();
     clearAuthData();
     router.push("/login");
   };
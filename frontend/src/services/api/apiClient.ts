@@ -1,5 +1,6 @@
-import { clearAuthData, getToken, isBrowser } from '@/services/api/tokenManager';
-import axios, { AxiosError } from 'axios';
+import { clearAuthData, getRefreshToken, getToken, isBrowser, saveAuthData } from '@/services/api/tokenManager';
+import { LoginResponse } from '@/types/authTypes';
+import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
 
 const apiClient = axios.create({
   baseURL: process.env.NEXT_PUBLIC_API_URL,
@@ -20,13 +21,47 @@ apiClient.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// Renovação em andamento, compartilhada pelas requisições que falharem ao mesmo tempo
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshing) {
+    const refreshToken = getRefreshToken();
+    refreshing = (refreshToken
+      ? axios
+          .post<LoginResponse>(`${process.env.NEXT_PUBLIC_API_URL}/v1/auth/refresh`, { refreshToken })
+          .then((response) => {
+            saveAuthData(response.data);
+            return response.data.token;
+          })
+      : Promise.reject(new Error('Sem refresh token'))
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
 // Interceptor de Resposta: Lida com erros de autenticação
 apiClient.interceptors.response.use(
   (response) => response,
-  (error: AxiosError) => {
-    const isLoginRequest = error.config?.url?.endsWith('/login');
+  async (error: AxiosError) => {
+    const isAuthRequest = /\/(login|refresh|logout)$/.test(error.config?.url ?? '');
+    const config = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+
+    if (error.response?.status === 401 && !isAuthRequest && config) {
+      // O access token é curto: tenta renovar uma vez antes de encerrar a sessão
+      if (!config._retried) {
+        config._retried = true;
+        try {
+          const token = await refreshAccessToken();
+          config.headers['Authorization'] = `Bearer ${token}`;
+          return apiClient(config);
+        } catch {
+          // Segue para o logout
+        }
+      }
 
-    if (error.response?.status === 401 && !isLoginRequest) {
       clearAuthData();
       if (isBrowser()) {
         window.location.href = '/login';
@@ -0,0 +1,23 @@
+import apiClient from '@/services/api/apiClient';
+import { CursorPage } from '@/types/userTypes';
+
+const PAGE_SIZE = 100;
+
+/**
+ * Busca todas as páginas de uma listagem por cursor, seguindo `next` até a última.
+ * @param url - O endpoint da listagem.
+ * @returns Uma promessa com os itens de todas as páginas.
+ */
+export const fetchAllPages = async <T>(url: string): Promise<T[]> => {
+  const items: T[] = [];
+  let after: string | null = null;
+
+  do {
+    const params: { size: number; after?: string } = after ? { size: PAGE_SIZE, after } : { size: PAGE_SIZE };
+    const response = await apiClient.get<CursorPage<T>>(url, { params });
+    items.push(...response.data.items);
+    after = response.data.next;
+  } while (after);
+
+  return items;
+};
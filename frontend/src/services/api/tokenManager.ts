@@ -1,6 +1,7 @@
 import { LoginResponse, UserData } from '@/types/authTypes';
 
 const TOKEN_KEY = 'jwt_token';
+const REFRESH_TOKEN_KEY = 'refresh_token';
 const USER_DATA_KEY = 'user_data';
 
 export const isBrowser = (): boolean => typeof window !== 'undefined';
@@ -8,6 +9,7 @@ export const isBrowser = (): boolean => typeof window !== 'undefined';
 export const saveAuthData = (loginResponse: LoginResponse): void => {
     if (isBrowser()) {
         localStorage.setItem(TOKEN_KEY, loginResponse.token);
+        localStorage.setItem(REFRESH_TOKEN_KEY, loginResponse.refreshToken);
         localStorage.setItem(USER_DATA_KEY, JSON.stringify(loginResponse.user));
     }
 };
@@ -16,6 +18,10 @@ export const getToken = (): string | null => {
     return isBrowser() ? localStorage.getItem(TOKEN_KEY) : null;
 };
 
+export const getRefreshToken = (): string | null => {
+    return isBrowser() ? localStorage.getItem(REFRESH_TOKEN_KEY) : null;
+};
+
 export const getUserData = (): UserData | null => {
     if (!isBrowser()) return null;
     const data = localStorage.getItem(USER_DATA_KEY);
@@ -30,6 +36,7 @@ export const getUserData = (): UserData | null => {
 export const clearAuthData = (): void => {
     if (isBrowser()) {
         localStorage.removeItem(TOKEN_KEY);
+        localStorage.removeItem(REFRESH_TOKEN_KEY);
         localStorage.removeItem(USER_DATA_KEY);
     }
 };
\ No newline at end of file
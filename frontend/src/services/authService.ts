@@ -1,4 +1,5 @@
 import apiClient from '@/services/api/apiClient';
+import { getRefreshToken } from '@/services/api/tokenManager';
 import { LoginRequest, LoginResponse } from '@/types/authTypes';
 import { UserCreateRequest } from '@/types/userTypes';
 
@@ -21,3 +22,14 @@ export const loginUserService = async (data: LoginRequest): Promise<LoginRespons
   const response = await apiClient.post<LoginResponse>(`${AUTH_BASE_URL}/login`, data);
   return response.data;
 };
+
+/**
+ * Encerra a sessão no backend, revogando o refresh token e o access token atual.
+ * Falhas são ignoradas: os dados locais são apagados de qualquer forma.
+ */
+export const logoutUserService = async (): Promise<void> => {
+  const refreshToken = getRefreshToken();
+  if (refreshToken) {
+    await apiClient.post(`${AUTH_BASE_URL}/logout`, { refreshToken }).catch(() => undefined);
+  }
+};
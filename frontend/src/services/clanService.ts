@@ -1,4 +1,5 @@
 import apiClient from '@/services/api/apiClient';
+import { fetchAllPages } from '@/services/api/pagination';
 import { ClanDto, ClanRequest, UnitDto, UnitRequest } from '@/types/clanTypes';
 import { QuestionDto } from '@/types/questTypes';
 
@@ -11,8 +12,7 @@ const BASE_URL = '/v1/core/clans';
  * @returns Uma promessa com a lista de clãs.
  */
 export const getAllClans = async (): Promise<ClanDto[]> => {
-  const response = await apiClient.get<ClanDto[]>(BASE_URL);
-  return response.data;
+  return fetchAllPages<ClanDto>(BASE_URL);
 };
 
 /**
@@ -1,4 +1,5 @@
 import apiClient from '@/services/api/apiClient';
+import { fetchAllPages } from '@/services/api/pagination';
 import { AnswerDto, OptionDto, OptionRequest, QuestionDto, QuestionRequest } from '@/types/questTypes';
 import { AxiosError } from 'axios';
 
@@ -12,8 +13,7 @@ const OPTIONS_BASE_URL = '/v1/core/options';
  * @returns Uma promessa com a lista de quests.
  */
 export const getAllQuests = async (): Promise<QuestionDto[]> => {
-  const response = await apiClient.get<QuestionDto[]>(QUESTIONS_BASE_URL);
-  return response.data;
+  return fetchAllPages<QuestionDto>(QUESTIONS_BASE_URL);
 };
 
 /**
@@ -22,8 +22,7 @@ export const getAllQuests = async (): Promise<QuestionDto[]> => {
  * @returns Uma promessa com a lista de quests do autor.
  */
 export const getQuestsByAuthorId = async (authorId: number): Promise<QuestionDto[]> => {
-  const response = await apiClient.get<QuestionDto[]>(`${QUESTIONS_BASE_URL}/author/${authorId}`);
-  return response.data;
+  return fetchAllPages<QuestionDto>(`${QUESTIONS_BASE_URL}/author/${authorId}`);
 };
 
 /**
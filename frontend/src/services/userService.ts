@@ -1,4 +1,5 @@
 import apiClient from '@/services/api/apiClient';
+import { fetchAllPages } from '@/services/api/pagination';
 import { ClanDto } from '@/types/clanTypes';
 import { Page, UserDto, UserWithScoreDto } from '@/types/userTypes';
 import { PasswordFormInputs, ProfileInfoFormInputs } from '@/validators/profileValidators';
@@ -8,8 +9,7 @@ const BASE_URL = '/v1/core/users';
 // --- Funções de Gestão de Utilizadores (CRUD) ---
 
 export const getAllUsers = async (): Promise<UserDto[]> => {
-  const response = await apiClient.get<UserDto[]>(BASE_URL);
-  return response.data;
+  return fetchAllPages<UserDto>(BASE_URL);
 };
 
 export const getUserById = async (id: number): Promise<UserDto> => {
@@ -32,13 +32,11 @@ export const deleteUser = async (id: number): Promise<void> => {
 // --- Funções de Listagem por Role ---
 
 export const listStudents = async (): Promise<UserDto[]> => {
-  const response = await apiClient.get<UserDto[]>(`${BASE_URL}/students`);
-  return response.data;
+  return fetchAllPages<UserDto>(`${BASE_URL}/students`);
 };
 
 export const listTeachers = async (): Promise<UserDto[]> => {
-  const response = await apiClient.get<UserDto[]>(`${BASE_URL}/teachers`);
-  return response.data;
+  return fetchAllPages<UserDto>(`${BASE_URL}/teachers`);
 };
 
 // --- Funções de Ranking e Pontuação ---
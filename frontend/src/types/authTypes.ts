@@ -13,9 +13,17 @@ export type UserData = UserDto;
  */
 export interface LoginResponse {
   token: string;
+  refreshToken: string;
   user: UserData;
 }
 
+/**
+ * DTO para renovar a sessão (ou encerrá-la) com o refresh token.
+ */
+export interface RefreshRequest {
+  refreshToken: string;
+}
+
 /**
  * DTO para a requisição de login que o frontend envia.
  * Você precisará confirmar com o time de backend qual será a estrutura
@@ -56,4 +56,10 @@ export interface Page<T> {
   totalElements: number;
   number: number;
   size: number;
+}
+
+/** Página de uma listagem por cursor: `next` é enviado em `after` para buscar a seguinte. */
+export interface CursorPage<T> {
+  items: T[];
+  next: string | null;
 }
\ No newline at end of file